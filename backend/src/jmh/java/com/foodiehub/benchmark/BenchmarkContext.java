@@ -0,0 +1,36 @@
+package com.foodiehub.benchmark;
+
+import com.foodiehub.FoodieHubApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application once per trial against the embedded H2 database of the
+ * {@code bench} profile, which also runs the seeder so reads hit realistic data.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplication(FoodieHubApplication.class);
+        application.setAdditionalProfiles("bench");
+        context = application.run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
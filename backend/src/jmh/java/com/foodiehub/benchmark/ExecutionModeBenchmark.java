@@ -0,0 +1,96 @@
+package com.foodiehub.benchmark;
+
+import com.foodiehub.model.Order;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.OrderRepository;
+import com.foodiehub.repository.RestaurantRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform vs virtual request threads over real HTTP with a slow database.
+ * 400 client threads keep twice as many requests in flight as Tomcat has
+ * platform workers; SampleTime reports the p99/p99.9 tail next to throughput.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=ExecutionMode
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(400)
+@Fork(value = 1, jvmArgs = {"-Djdk.tracePinnedThreads=short"})
+public class ExecutionModeBenchmark {
+
+    private HttpClient client;
+    private WebBenchmarkContext context;
+    private long[] orderIds;
+    private String[] userNames;
+    private long[] restaurantIds;
+
+    @Setup(Level.Trial)
+    public void setUp(WebBenchmarkContext context) {
+        this.context = context;
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        orderIds = context.bean(OrderRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(5000)).stream()
+                .mapToLong(Order::getId).toArray();
+        userNames = context.bean(OrderRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(500)).stream()
+                .map(Order::getUserName).distinct().toArray(String[]::new);
+        restaurantIds = context.bean(RestaurantRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(200)).stream()
+                .mapToLong(Restaurant::getId).toArray();
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(context.url(path)))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int orderById() throws IOException, InterruptedException {
+        return get("/api/orders/" + orderIds[ThreadLocalRandom.current().nextInt(orderIds.length)]);
+    }
+
+    @Benchmark
+    public int ordersByUser() throws IOException, InterruptedException {
+        String userName = userNames[ThreadLocalRandom.current().nextInt(userNames.length)];
+        return get("/api/orders/user/" + userName.replace(" ", "%20"));
+    }
+
+    @Benchmark
+    public int menuItemsByRestaurant() throws IOException, InterruptedException {
+        return get("/api/menu-items/restaurant/" + restaurantIds[ThreadLocalRandom.current().nextInt(restaurantIds.length)]);
+    }
+
+    @Benchmark
+    public int menuItemsPage() throws IOException, InterruptedException {
+        return get("/api/menu-items/page?size=20");
+    }
+}
@@ -0,0 +1,69 @@
+package com.foodiehub.benchmark;
+
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.MenuItemRepository;
+import com.foodiehub.repository.RestaurantRepository;
+import com.foodiehub.service.MenuItemService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MenuItemReadBenchmark {
+
+    private MenuItemRepository menuItemRepository;
+    private MenuItemService menuItemService;
+    private long[] restaurantIds;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        menuItemRepository = context.bean(MenuItemRepository.class);
+        menuItemService = context.bean(MenuItemService.class);
+        restaurantIds = context.bean(RestaurantRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(200)).stream()
+                .mapToLong(Restaurant::getId).toArray();
+    }
+
+    private long randomRestaurant() {
+        return restaurantIds[ThreadLocalRandom.current().nextInt(restaurantIds.length)];
+    }
+
+    @Benchmark
+    public List<MenuItem> menuByRestaurantRepository() {
+        return menuItemRepository.findByRestaurantId(randomRestaurant());
+    }
+
+    @Benchmark
+    public byte[] menuByRestaurantSnapshot() {
+        return menuItemService.getMenuSnapshot(randomRestaurant()).getJson();
+    }
+
+    @Benchmark
+    public List<MenuItem> tagByRestaurantRepository() {
+        return menuItemRepository.findByRestaurantIdAndTagsContaining(randomRestaurant(), "Popular");
+    }
+
+    @Benchmark
+    public List<MenuItem> tagAcrossRestaurantsIndex() {
+        return menuItemService.queryMenuItemsByTags(List.of("Popular"), List.of("Spicy", "Healthy"), null, true, 20);
+    }
+}
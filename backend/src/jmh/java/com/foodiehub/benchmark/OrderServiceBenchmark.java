@@ -0,0 +1,56 @@
+package com.foodiehub.benchmark;
+
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Order;
+import com.foodiehub.repository.MenuItemRepository;
+import com.foodiehub.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private OrderService orderService;
+    private long[] menuItemIds;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        orderService = context.bean(OrderService.class);
+        List<MenuItem> menuItems = context.bean(MenuItemRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000));
+        menuItemIds = menuItems.stream().mapToLong(MenuItem::getId).toArray();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setId(menuItemIds[ThreadLocalRandom.current().nextInt(menuItemIds.length)]);
+        Order order = new Order();
+        order.setMenuItem(menuItem);
+        order.setUserName("Bench User");
+        order.setUserEmail("bench@example.com");
+        order.setPrice(250.0);
+        order.setAddress("1 Bench Street");
+        order.setPaymentMethod("UPI");
+        return orderService.createOrder(order);
+    }
+}
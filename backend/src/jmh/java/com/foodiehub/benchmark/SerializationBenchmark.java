@@ -0,0 +1,94 @@
+package com.foodiehub.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Restaurant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the @JsonIdentityInfo / @JsonManagedReference entity graph on
+ * in-memory entities, through the application's own configured ObjectMapper so
+ * the numbers match what the HTTP converters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int menuSize;
+
+    private ObjectMapper objectMapper;
+    private Restaurant restaurant;
+    private List<Restaurant> restaurants;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        objectMapper = context.bean(ObjectMapper.class);
+        restaurant = restaurant(1L);
+        restaurants = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            restaurants.add(restaurant(id));
+        }
+    }
+
+    private Restaurant restaurant(long id) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(id);
+        restaurant.setName("Restaurant " + id);
+        restaurant.setCuisine(List.of("Indian", "Chinese"));
+        restaurant.setPriceRange("Moderate");
+        restaurant.setRating(4.2);
+        restaurant.setReviewCount(321);
+        restaurant.setDeliveryTime("25-35 min");
+        restaurant.setImageUrl("https://example.com/r.jpg");
+        restaurant.setAddress("1 Bench Street");
+        restaurant.setPriceForTwo(600);
+        restaurant.setIsVeg(false);
+        restaurant.setIsOpen(true);
+        List<MenuItem> menuItems = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            MenuItem item = new MenuItem();
+            item.setId(id * 1000 + i);
+            item.setName("Dish " + i);
+            item.setDescription("A benchmark dish");
+            item.setPrice(100.0 + i);
+            item.setImageUrl("https://example.com/m.jpg");
+            item.setIsVeg(i % 2 == 0);
+            item.setIsAvailable(true);
+            item.setTags(List.of("Popular", "Spicy"));
+            item.setRestaurant(restaurant);
+            menuItems.add(item);
+        }
+        restaurant.setMenuItems(menuItems);
+        return restaurant;
+    }
+
+    @Benchmark
+    public byte[] restaurantWithMenu() throws Exception {
+        return objectMapper.writeValueAsBytes(restaurant);
+    }
+
+    @Benchmark
+    public byte[] restaurantList() throws Exception {
+        return objectMapper.writeValueAsBytes(restaurants);
+    }
+}
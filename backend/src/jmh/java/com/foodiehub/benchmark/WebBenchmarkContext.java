@@ -0,0 +1,120 @@
+package com.foodiehub.benchmark;
+
+import com.foodiehub.FoodieHubApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Boots the full web application on a random port in either execution mode.
+ * Every JDBC statement is delayed by {@code dbLatencyMs} before it reaches H2 to
+ * stand in for a slow MySQL, so request threads spend their time blocked the way
+ * they do in production rather than on in-memory work.
+ */
+@State(Scope.Benchmark)
+public class WebBenchmarkContext {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"20"})
+    public long dbLatencyMs;
+
+    private ConfigurableApplicationContext context;
+    private int port;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplication(FoodieHubApplication.class);
+        application.setAdditionalProfiles("virtual".equals(mode) ? new String[]{"bench", "virtual"} : new String[]{"bench"});
+        application.addInitializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new SlowDataSourcePostProcessor(dbLatencyMs)));
+        // Command-line arguments outrank every profile file, so these win over the bench profile's
+        // web-application-type=none and give both modes the same pool (application-virtual sets 30).
+        // The pool is larger than Tomcat's 200 workers so threads, not connections, are the limit being compared.
+        context = application.run(
+                "--spring.main.web-application-type=servlet",
+                "--server.port=0",
+                "--spring.datasource.hikari.maximum-pool-size=400",
+                "--spring.datasource.hikari.minimum-idle=10",
+                "--spring.datasource.hikari.connection-timeout=30000");
+        port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    private static final class SlowDataSourcePostProcessor implements BeanPostProcessor {
+        private final long latencyMs;
+
+        private SlowDataSourcePostProcessor(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || latencyMs <= 0) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return slow(super.getConnection());
+                }
+            };
+        }
+
+        private Connection slow(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                            return delayed(statement, method.getReturnType());
+                        }
+                        return result;
+                    });
+        }
+
+        private Object delayed(Statement statement, Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            Thread.sleep(latencyMs);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
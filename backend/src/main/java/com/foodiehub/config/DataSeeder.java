@@ -0,0 +1,276 @@
+package com.foodiehub.config;
+
+import com.foodiehub.service.SalesRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates synthetic catalogue and order history for load and capacity testing.
+ * Rows are written with batched JDBC inserts and explicit ids, orders in parallel
+ * chunks with one transaction each. Enabled with {@code seed.enabled=true}, e.g.
+ * through the {@code seed} profile which points at an embedded H2 database.
+ */
+@Component
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true")
+public class DataSeeder implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+
+    // Rough popularity order; earlier entries are drawn more often
+    private static final String[] CUISINES = {
+        "Indian", "North Indian", "Chinese", "South Indian", "Fast Food", "Biryani", "Pizza",
+        "Desserts", "Italian", "Beverages", "Street Food", "Mughlai", "Thai", "Japanese",
+        "Continental", "Healthy", "Mexican", "Lebanese", "Korean", "Bakery"
+    };
+    private static final String[] TAGS = {
+        "Popular", "Bestseller", "Spicy", "Main Course", "Starter", "Healthy", "Vegan",
+        "Chef's Special", "New", "Bread", "Essential", "Dessert", "Combo", "Gluten Free", "Kids"
+    };
+    private static final String[] PRICE_RANGES = {"Budget", "Moderate", "Premium"};
+    private static final String[] STATUSES = {"Delivered", "Cancelled", "Pending", "Confirmed", "Preparing", "OutForDelivery"};
+    private static final double[] STATUS_WEIGHTS = {0.86, 0.06, 0.02, 0.02, 0.02, 0.02};
+    private static final String[] PAYMENT_METHODS = {"UPI", "Card", "Cash on Delivery", "Wallet"};
+    private static final double[] PAYMENT_WEIGHTS = {0.5, 0.25, 0.15, 0.1};
+    private static final String[] DISH_WORDS = {
+        "Paneer", "Chicken", "Veg", "Masala", "Tikka", "Butter", "Garlic", "Crispy", "Tandoori",
+        "Schezwan", "Noodles", "Rice", "Curry", "Roll", "Bowl", "Wrap", "Burger", "Pizza", "Naan", "Kebab"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Value("${seed.restaurants:1000}")
+    private int restaurantCount;
+
+    @Value("${seed.menu-items-per-restaurant:40}")
+    private int menuItemsPerRestaurant;
+
+    @Value("${seed.orders:1000000}")
+    private int orderCount;
+
+    @Value("${seed.users:50000}")
+    private int userCount;
+
+    @Value("${seed.history-days:365}")
+    private int historyDays;
+
+    @Value("${seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${seed.threads:4}")
+    private int threads;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.currentTimeMillis();
+        long firstRestaurantId = nextId("restaurants");
+        long firstMenuItemId = nextId("menu_items");
+        long firstOrderId = nextId("orders");
+        int menuItemCount = restaurantCount * menuItemsPerRestaurant;
+        logger.info("Seeding {} restaurants, {} menu items and {} orders with {} threads",
+                restaurantCount, menuItemCount, orderCount, threads);
+
+        seedRestaurants(firstRestaurantId);
+        seedMenuItems(firstRestaurantId, firstMenuItemId);
+        logger.info("Catalogue seeded in {} ms", System.currentTimeMillis() - started);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int offset = 0; offset < orderCount; offset += batchSize) {
+                int from = offset;
+                int to = Math.min(offset + batchSize, orderCount);
+                chunks.add(executor.submit(() -> seedOrderChunk(firstOrderId, firstMenuItemId, menuItemCount, from, to)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        restartIdentity("restaurants", firstRestaurantId + restaurantCount);
+        restartIdentity("menu_items", firstMenuItemId + menuItemCount);
+        restartIdentity("orders", firstOrderId + orderCount);
+        // Orders were written behind the order service's back, so derive the rollups from them
+        salesRollupService.rebuild();
+        logger.info("Seeding completed in {} ms", System.currentTimeMillis() - started);
+    }
+
+    private void seedRestaurants(long firstId) {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        List<Object[]> restaurants = new ArrayList<>(restaurantCount);
+        List<Object[]> cuisines = new ArrayList<>();
+        for (int i = 0; i < restaurantCount; i++) {
+            long id = firstId + i;
+            boolean veg = random.nextDouble() < 0.3;
+            String priceRange = PRICE_RANGES[random.nextInt(PRICE_RANGES.length)];
+            double rating = Math.max(1.0, Math.min(5.0, Math.round((3.9 + gaussian(random) * 0.4) * 10) / 10.0));
+            restaurants.add(new Object[]{
+                id, "Restaurant " + id, priceRange, rating, 10 + random.nextInt(5000),
+                (15 + random.nextInt(20)) + "-" + (35 + random.nextInt(20)) + " min",
+                "https://example.com/restaurants/" + id + ".jpg", id + " Seed Street, City",
+                200 + random.nextInt(20) * 100, veg, random.nextDouble() < 0.85
+            });
+            int cuisineCount = 1 + random.nextInt(3);
+            List<String> picked = new ArrayList<>();
+            while (picked.size() < cuisineCount) {
+                String cuisine = CUISINES[zipf(random, CUISINES.length)];
+                if (!picked.contains(cuisine)) {
+                    picked.add(cuisine);
+                    cuisines.add(new Object[]{id, cuisine});
+                }
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            batchInsert("INSERT INTO restaurants (id, name, price_range, rating, review_count, delivery_time, " +
+                    "image_url, address, price_for_two, is_veg, is_open) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", restaurants);
+            batchInsert("INSERT INTO restaurant_cuisines (restaurant_id, cuisine) VALUES (?, ?)", cuisines);
+        });
+    }
+
+    private void seedMenuItems(long firstRestaurantId, long firstMenuItemId) {
+        SplittableRandom random = new SplittableRandom(randomSeed + 1);
+        List<Object[]> items = new ArrayList<>(batchSize);
+        List<Object[]> tags = new ArrayList<>(batchSize * 2);
+        for (int r = 0; r < restaurantCount; r++) {
+            long restaurantId = firstRestaurantId + r;
+            for (int m = 0; m < menuItemsPerRestaurant; m++) {
+                long id = firstMenuItemId + (long) r * menuItemsPerRestaurant + m;
+                String name = DISH_WORDS[random.nextInt(DISH_WORDS.length)] + " " + DISH_WORDS[random.nextInt(DISH_WORDS.length)];
+                items.add(new Object[]{
+                    id, name, "Freshly prepared " + name.toLowerCase(), (double) (50 + random.nextInt(60) * 10),
+                    "https://example.com/menu-items/" + id + ".jpg", random.nextDouble() < 0.45, random.nextDouble() < 0.92,
+                    restaurantId
+                });
+                int tagCount = random.nextInt(4);
+                List<String> picked = new ArrayList<>();
+                while (picked.size() < tagCount) {
+                    String tag = TAGS[zipf(random, TAGS.length)];
+                    if (!picked.contains(tag)) {
+                        picked.add(tag);
+                        tags.add(new Object[]{id, tag});
+                    }
+                }
+                if (items.size() >= batchSize) {
+                    flushMenuItems(items, tags);
+                }
+            }
+        }
+        flushMenuItems(items, tags);
+    }
+
+    private void flushMenuItems(List<Object[]> items, List<Object[]> tags) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batchInsert("INSERT INTO menu_items (id, name, description, price, image_url, is_veg, is_available, " +
+                    "restaurant_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", items);
+            batchInsert("INSERT INTO menu_item_tags (menu_item_id, tag) VALUES (?, ?)", tags);
+        });
+        items.clear();
+        tags.clear();
+    }
+
+    private void seedOrderChunk(long firstOrderId, long firstMenuItemId, int menuItemCount, int from, int to) {
+        SplittableRandom random = new SplittableRandom(randomSeed + 2 + from);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> orders = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            long menuItemId = firstMenuItemId + zipf(random, menuItemCount);
+            int user = random.nextInt(userCount);
+            LocalDateTime orderDate = now.minusDays(random.nextInt(historyDays))
+                    .withHour(mealHour(random)).withMinute(random.nextInt(60)).withSecond(random.nextInt(60));
+            String status = weighted(random, STATUSES, STATUS_WEIGHTS);
+            orders.add(new Object[]{
+                firstOrderId + i, menuItemId, "User " + user, "user" + user + "@example.com",
+                (double) (50 + random.nextInt(120) * 10), user + " Customer Lane, City", "9" + (100000000 + user),
+                status, Timestamp.valueOf(orderDate), null, weighted(random, PAYMENT_METHODS, PAYMENT_WEIGHTS),
+                "Cancelled".equals(status) ? "Refunded" : "Paid"
+            });
+        }
+        transactionTemplate.executeWithoutResult(status -> batchInsert(
+                "INSERT INTO orders (id, menu_item_id, user_name, user_email, price, address, phone_number, status, " +
+                "order_date, delivery_notes, payment_method, payment_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                orders));
+        logger.debug("Seeded orders {}..{}", from, to - 1);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(start + batchSize, rows.size())));
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    // H2 does not advance an identity column on explicit inserts; MySQL's AUTO_INCREMENT does
+    private void restartIdentity(String table, long next) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("H2".equalsIgnoreCase(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    // Lunch and dinner peaks with a thin tail through the rest of the day
+    private static int mealHour(SplittableRandom random) {
+        double p = random.nextDouble();
+        if (p < 0.4) {
+            return 12 + random.nextInt(3);
+        }
+        if (p < 0.85) {
+            return 19 + random.nextInt(3);
+        }
+        return 9 + random.nextInt(14);
+    }
+
+    // Approximate Zipf(1) index in [0, n): a few values are very popular, most are rare
+    private static int zipf(SplittableRandom random, int n) {
+        double x = Math.exp(random.nextDouble() * Math.log(n + 1.0)) - 1.0;
+        return Math.min(n - 1, (int) x);
+    }
+
+    private static String weighted(SplittableRandom random, String[] values, double[] weights) {
+        double p = random.nextDouble();
+        for (int i = 0; i < values.length; i++) {
+            p -= weights[i];
+            if (p < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+}
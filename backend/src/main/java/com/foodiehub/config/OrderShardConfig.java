@@ -0,0 +1,93 @@
+package com.foodiehub.config;
+
+import com.foodiehub.service.MenuItemTagIndex;
+import com.foodiehub.service.ModuloOrderShardMap;
+import com.foodiehub.service.OrderShardMap;
+import com.foodiehub.service.ShardedOrderStore;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Order sharding, enabled with {@code sharding.enabled}. Each URL in
+ * {@code sharding.urls} is one shard with its own pool, migrated from
+ * {@code classpath:db/shard} on startup; the shard index is the URL's position,
+ * so URLs may be appended but never reordered. Catalogue tables stay on the
+ * primary datasource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class OrderShardConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderShardConfig.class);
+
+    @Value("${sharding.urls}")
+    private List<String> shardUrls;
+
+    // restaurantId:shard pairs that override the modulo placement
+    @Value("${sharding.pinned-restaurants:}")
+    private List<String> pinnedRestaurants;
+
+    @Value("${sharding.pool-size:10}")
+    private int shardPoolSize;
+
+    @Value("${sharding.scatter-threads:8}")
+    private int scatterThreads;
+
+    @Value("${sharding.scatter-timeout-ms:5000}")
+    private long scatterTimeoutMs;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OrderShardMap orderShardMap() {
+        Map<Long, Integer> pinned = new HashMap<>();
+        for (String entry : pinnedRestaurants) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected restaurantId:shard in sharding.pinned-restaurants, got " + entry);
+            }
+            pinned.put(Long.parseLong(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return new ModuloOrderShardMap(shardUrls.size(), pinned);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardedOrderStore shardedOrderStore(OrderShardMap orderShardMap,
+                                               MenuItemTagIndex menuItemTagIndex,
+                                               DataSourceProperties properties,
+                                               MeterRegistry meterRegistry) {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("order-shard-" + i);
+            // No driver class: it is picked from the URL, so shards may run on another engine than the primary
+            shard.setJdbcUrl(shardUrls.get(i).trim());
+            shard.setUsername(properties.determineUsername());
+            shard.setPassword(properties.determinePassword());
+            shard.setMaximumPoolSize(shardPoolSize);
+            shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            Flyway.configure()
+                    .dataSource(shard)
+                    .locations("classpath:db/shard")
+                    .load()
+                    .migrate();
+            shards.add(shard);
+        }
+        logger.info("Orders sharded by restaurant across {} databases", shards.size());
+        return new ShardedOrderStore(shards, orderShardMap, menuItemTagIndex, scatterThreads, scatterTimeoutMs);
+    }
+}
@@ -0,0 +1,99 @@
+package com.foodiehub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodiehub.controller.ReactiveReadHandler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Second, non-blocking HTTP server for the highest-QPS browse endpoints. It runs
+ * on Reactor Netty with a handful of event-loop threads next to the Tomcat/MVC
+ * server, and binds once the in-memory indexes it reads from have been built.
+ */
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveReadServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    @Autowired
+    private ReactiveReadHandler handler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${reactive.port:8081}")
+    private int port;
+
+    @Value("${reactive.event-loop-threads:4}")
+    private int eventLoopThreads;
+
+    private LoopResources loops;
+    private DisposableServer server;
+
+    // RestaurantFilterIndex rebuilds on the same event at highest precedence, so no request sees an empty index
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void start() {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/reactive/restaurants", handler::listRestaurants)
+                .GET("/api/reactive/restaurants/{id}", handler::getRestaurant)
+                .GET("/api/reactive/menu-items/restaurant/{restaurantId}", handler::getMenu)
+                .build();
+
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        cors.addAllowedMethod("GET");
+        cors.addAllowedHeader("*");
+        UrlBasedCorsConfigurationSource corsSource = new UrlBasedCorsConfigurationSource();
+        corsSource.registerCorsConfiguration("/**", cors);
+
+        // Same ObjectMapper as the MVC side so both servers produce identical JSON
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .webFilter(new CorsWebFilter(corsSource))
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+
+        loops = LoopResources.create("reactive-read", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .compress(false)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive read server listening on port {} with {} event-loop threads", server.port(), eventLoopThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+        if (loops != null) {
+            loops.disposeLater().block();
+        }
+    }
+}
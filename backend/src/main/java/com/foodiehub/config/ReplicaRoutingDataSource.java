@@ -0,0 +1,165 @@
+package com.foodiehub.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the replicas, round-robin over
+ * the ones that passed their last health check, and everything else to the
+ * primary. A replica that fails to hand out a connection is marked down and the
+ * call falls back to the primary. Code that must read its own writes wraps the
+ * read in {@link #onPrimary(Supplier)}.
+ *
+ * <p>Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only
+ * flag is only set after the transaction manager has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Integer> primaryPins = ThreadLocal.withInitial(() -> 0);
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, long healthCheckSeconds) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs {@code read} against the primary even inside a read-only transaction,
+     * for reads that must observe a write that replicas may not have applied yet.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        primaryPins.set(primaryPins.get() + 1);
+        try {
+            return read.get();
+        } finally {
+            int pins = primaryPins.get() - 1;
+            if (pins == 0) {
+                primaryPins.remove();
+            } else {
+                primaryPins.set(pins);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (primaryPins.get() > 0 || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = nextHealthyReplica();
+        return replica != null ? replica.key : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return getResolvedDefaultDataSource().getConnection();
+        }
+        Replica replica = replicaFor(key);
+        logger.debug("Routing read-only connection to {}", replica.key);
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markDown(replica, e);
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
+
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Replica replicaFor(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.key.equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("Unknown replica " + key);
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                boolean valid = connection.isValid(2);
+                if (valid && !replica.healthy) {
+                    logger.info("Replica {} is back in rotation", replica.key);
+                }
+                replica.healthy = valid;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    private void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            logger.warn("Replica {} taken out of rotation: {}", replica.key, cause.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.foodiehub.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds a {@link RequestProfile} to each API request, publishes its SQL
+ * statement count, DB time and JSON serialization time tagged like
+ * {@code http.server.requests}, and adds a Server-Timing header when the
+ * response has not been committed yet (JSON bodies get theirs from
+ * {@link TimedJsonHttpMessageConverter} just before they are written).
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!request.getRequestURI().startsWith("/api/")) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestProfile profile = RequestProfile.begin();
+        try {
+            chain.doFilter(request, response);
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, profile.toServerTiming());
+            }
+        } finally {
+            RequestProfile.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("SQL statements issued per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(profile.getStatements());
+            Timer.builder("http.server.requests.sql.time")
+                    .description("JDBC execution time per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(profile.getDbNanos(), TimeUnit.NANOSECONDS);
+            Timer.builder("http.server.requests.serialization.time")
+                    .description("JSON serialization time per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(profile.getSerializationNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.foodiehub.config;
+
+import java.util.Locale;
+
+/**
+ * Per-request breakdown of where time went: SQL statements issued, time spent
+ * executing them, time spent serializing the response and total handler time.
+ * Bound to the request thread by {@link RequestMetricsFilter}.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long statements;
+    private long dbNanos;
+    private long serializationNanos;
+
+    private RequestProfile() {
+    }
+
+    public static RequestProfile begin() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public long incrementStatements() {
+        return ++statements;
+    }
+
+    public void addDbNanos(long nanos) {
+        dbNanos += nanos;
+    }
+
+    public void addSerializationNanos(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    // e.g. db;dur=3.10;desc="4 statements", ser;dur=0.42, total;dur=5.87 (ser only once a body has been written)
+    public String toServerTiming() {
+        if (serializationNanos == 0) {
+            return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements\", total;dur=%.2f",
+                    millis(dbNanos), statements, millis(getElapsedNanos()));
+        }
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements\", ser;dur=%.2f, total;dur=%.2f",
+                millis(dbNanos), statements, millis(serializationNanos), millis(getElapsedNanos()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.foodiehub.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request. With
+ * {@code profiling.statement-limit} set, a request that exceeds it fails fast as
+ * an absolute backstop; statement counts that grow with the result size are
+ * caught by {@code ListEndpointStatementCountTest}.
+ */
+@Component
+public class SqlStatementInspector implements StatementInspector {
+
+    @Value("${profiling.statement-limit:0}")
+    private long statementLimit;
+
+    @Override
+    public String inspect(String sql) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            long statements = profile.incrementStatements();
+            if (statementLimit > 0 && statements > statementLimit) {
+                throw new IllegalStateException("Request exceeded " + statementLimit
+                        + " SQL statements (possible N+1); last statement: " + sql);
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,41 @@
+package com.foodiehub.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds JDBC execution time to the current {@link RequestProfile}. Hibernate
+ * creates one instance per session, so the start timestamps are not shared.
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executeStart = record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        batchStart = record(batchStart);
+    }
+
+    private static long record(long start) {
+        RequestProfile profile = RequestProfile.current();
+        if (start >= 0 && profile != null) {
+            profile.addDbNanos(System.nanoTime() - start);
+        }
+        return -1;
+    }
+}
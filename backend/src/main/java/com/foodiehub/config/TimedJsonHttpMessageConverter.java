@@ -0,0 +1,101 @@
+package com.foodiehub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that times serialization by wrapping the response stream,
+ * from the first byte written until the body is complete. The body is streamed
+ * as before, so the Server-Timing header is set from the profile as it stands
+ * before serialization and the serialization time itself is published by
+ * {@link RequestMetricsFilter}.
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        // Last chance for headers: getBody() commits them
+        outputMessage.getHeaders().set(RequestMetricsFilter.SERVER_TIMING, profile.toServerTiming());
+        try (TimedOutputStream body = new TimedOutputStream(outputMessage.getBody(), profile)) {
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+        }
+    }
+
+    /**
+     * Passes every write straight through and adds the time from the first
+     * write to {@link #close()} to the profile. Closing does not close the
+     * response stream; the converter flushes it as usual.
+     */
+    private static final class TimedOutputStream extends FilterOutputStream {
+
+        private final RequestProfile profile;
+        private boolean written;
+        private long firstWriteNanos;
+        private boolean closed;
+
+        TimedOutputStream(OutputStream out, RequestProfile profile) {
+            super(out);
+            this.profile = profile;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            started();
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            started();
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (written) {
+                profile.addSerializationNanos(System.nanoTime() - firstWriteNanos);
+            }
+        }
+
+        private void started() {
+            if (!written) {
+                written = true;
+                firstWriteNanos = System.nanoTime();
+            }
+        }
+    }
+}
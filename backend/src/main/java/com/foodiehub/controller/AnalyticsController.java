@@ -0,0 +1,70 @@
+package com.foodiehub.controller;
+
+import com.foodiehub.dto.SalesSummaryDTO;
+import com.foodiehub.service.SalesRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+    
+    @Autowired
+    private SalesRollupService salesRollupService;
+    
+    // Per-restaurant totals for [from, to), highest revenue first; restaurantId narrows it to one
+    @GetMapping("/sales")
+    public ResponseEntity<?> getSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long restaurantId) {
+        try {
+            List<SalesSummaryDTO> sales = salesRollupService.summarize(from, to, restaurantId);
+            return ResponseEntity.ok(sales);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/sales/{restaurantId}/series")
+    public ResponseEntity<?> getSalesSeries(
+            @PathVariable Long restaurantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        try {
+            List<SalesSummaryDTO> series = salesRollupService.series(restaurantId, from, to, granularity);
+            return ResponseEntity.ok(series);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    // Recomputes the rollups from order history, e.g. after a bulk import
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<?> rebuildSales() {
+        long started = System.currentTimeMillis();
+        int restaurants = salesRollupService.rebuild();
+        if (restaurants < 0) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Sales rollup rebuild is already running");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        }
+        Map<String, Long> response = new HashMap<>();
+        response.put("restaurants", (long) restaurants);
+        response.put("elapsedMs", System.currentTimeMillis() - started);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,28 @@
+package com.foodiehub.controller;
+
+import com.foodiehub.service.CacheStatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "*")
+public class CacheController {
+    
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+    
+    @GetMapping("/stats")
+    public Map<String, Object> getCacheStatistics() {
+        return cacheStatisticsService.getCacheStatistics();
+    }
+    
+    @DeleteMapping("/stats")
+    public ResponseEntity<Void> resetCacheStatistics() {
+        cacheStatisticsService.clearStatistics();
+        return ResponseEntity.ok().build();
+    }
+}
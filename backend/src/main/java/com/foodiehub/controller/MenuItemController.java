@@ -1,11 +1,21 @@
 package com.foodiehub.controller;
 
+import com.foodiehub.dto.CursorPage;
+import com.foodiehub.dto.MenuSummaryDTO;
+import com.foodiehub.dto.TrendingItemDTO;
 import com.foodiehub.model.MenuItem;
 import com.foodiehub.service.MenuItemService;
+import com.foodiehub.service.MenuSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/menu-items")
@@ -15,9 +25,62 @@ public class MenuItemController {
     @Autowired
     private MenuItemService menuItemService;
     
+    // Deprecated: answers one cursor page at a time with a Link to the next; new callers use /page
+    @Deprecated
     @GetMapping
-    public List<MenuItem> getAllMenuItems() {
-        return menuItemService.getAllMenuItems();
+    public ResponseEntity<?> getAllMenuItems(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<MenuItem> page = menuItemService.getMenuItemsPage(cursor, size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+            if (page.getNextCursor() != null) {
+                response.header(HttpHeaders.LINK, "</api/menu-items?cursor=" + page.getNextCursor()
+                        + (size != null ? "&size=" + size : "") + ">; rel=\"next\"");
+            }
+            return response.body(page.getItems());
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<?> getMenuItemsPage(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<MenuItem> page = menuItemService.getMenuItemsPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/tags")
+    public ResponseEntity<?> queryMenuItemsByTags(@RequestParam(required = false) List<String> all,
+                                                  @RequestParam(required = false) List<String> any,
+                                                  @RequestParam(required = false) Boolean veg,
+                                                  @RequestParam(required = false) Boolean available,
+                                                  @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(menuItemService.queryMenuItemsByTags(all, any, veg, available, limit));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/summary")
+    public List<MenuSummaryDTO> getMenuSummaries() {
+        return menuItemService.getMenuSummaries();
+    }
+    
+    @GetMapping("/trending")
+    public List<TrendingItemDTO> getTrendingItems(@RequestParam(required = false) Integer k) {
+        return menuItemService.getTrendingItems(k);
     }
     
     @GetMapping("/{id}")
@@ -27,9 +90,28 @@ public class MenuItemController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    // Served from a pre-serialized snapshot; revalidation with If-None-Match costs no query
     @GetMapping("/restaurant/{restaurantId}")
-    public List<MenuItem> getMenuItemsByRestaurant(@PathVariable Long restaurantId) {
-        return menuItemService.getMenuItemsByRestaurant(restaurantId);
+    public ResponseEntity<byte[]> getMenuItemsByRestaurant(
+            @PathVariable Long restaurantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MenuSnapshotService.MenuSnapshot snapshot = menuItemService.getMenuSnapshot(restaurantId);
+        if (ifNoneMatch != null && ifNoneMatch.contains(snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
     }
     
     @GetMapping("/restaurant/{restaurantId}/available")
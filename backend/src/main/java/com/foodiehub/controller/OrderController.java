@@ -1,11 +1,30 @@
 package com.foodiehub.controller;
 
+import com.foodiehub.dto.CartOrderRequest;
+import com.foodiehub.dto.CursorPage;
+import com.foodiehub.dto.OrderIntakeStatus;
+import com.foodiehub.dto.OrderStatusEvent;
 import com.foodiehub.model.Order;
+import com.foodiehub.service.AdmissionRejectedException;
+import com.foodiehub.service.OrderAdmissionControl;
+import com.foodiehub.service.OrderArchiveService;
+import com.foodiehub.service.OrderEventBroadcaster;
+import com.foodiehub.service.OrderIntakeService;
 import com.foodiehub.service.OrderService;
+import com.foodiehub.service.OrderStatusConflictException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,9 +37,66 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
     
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+    
+    @Autowired
+    private OrderEventBroadcaster orderEventBroadcaster;
+    
+    @Autowired
+    private OrderAdmissionControl orderAdmissionControl;
+    
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    
+    @Value("${export.timeout-ms:3600000}")
+    private long exportTimeoutMs;
+    
+    // Deprecated: answers one cursor page at a time with a Link to the next; new callers use /page
+    @Deprecated
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderService.getAllOrders();
+    public ResponseEntity<?> getAllOrders(@RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<Order> page = orderService.getOrdersPage(cursor, size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+            if (page.getNextCursor() != null) {
+                response.header(HttpHeaders.LINK, "</api/orders?cursor=" + page.getNextCursor()
+                        + (size != null ? "&size=" + size : "") + ">; rel=\"next\"");
+            }
+            return response.body(page.getItems());
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<?> getOrdersPage(@RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<Order> page = orderService.getOrdersPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    // Streams on an MVC async thread with its own timeout; every other async request keeps the default
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportOrders(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String status,
+            HttpServletResponse response) {
+        response.setContentType("application/x-ndjson");
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            orderService.exportOrders(from, to, status, response.getOutputStream());
+            return null;
+        });
     }
     
     @GetMapping("/{id}")
@@ -30,31 +106,51 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderEvents(@PathVariable Long id) {
+        return orderService.getOrderById(id)
+                .map(order -> ResponseEntity.ok(orderEventBroadcaster.subscribeToOrder(id,
+                        new OrderStatusEvent(order.getId(), order.getUserName(), order.getStatus(),
+                                order.getPaymentStatus(), LocalDateTime.now()))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping(path = "/user/{userName}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserOrderEvents(@PathVariable String userName) {
+        return orderEventBroadcaster.subscribeToUser(userName);
+    }
+    
     @GetMapping("/user/{userName}")
-    public List<Order> getOrdersByUserName(@PathVariable String userName) {
-        return orderService.getOrdersByUserName(userName);
+    public List<Order> getOrdersByUserName(@PathVariable String userName,
+                                           @RequestParam(required = false) Integer limit) {
+        return orderService.getOrdersByUserName(userName, limit);
     }
     
     @GetMapping("/email/{userEmail}")
-    public List<Order> getOrdersByUserEmail(@PathVariable String userEmail) {
-        return orderService.getOrdersByUserEmail(userEmail);
+    public List<Order> getOrdersByUserEmail(@PathVariable String userEmail,
+                                            @RequestParam(required = false) Integer limit) {
+        return orderService.getOrdersByUserEmail(userEmail, limit);
     }
     
     @GetMapping("/status/{status}")
-    public List<Order> getOrdersByStatus(@PathVariable String status) {
-        return orderService.getOrdersByStatus(status);
+    public List<Order> getOrdersByStatus(@PathVariable String status,
+                                         @RequestParam(required = false) Integer limit) {
+        return orderService.getOrdersByStatus(status, limit);
     }
     
     @GetMapping("/menu-item/{menuItemId}")
-    public List<Order> getOrdersByMenuItem(@PathVariable Long menuItemId) {
-        return orderService.getOrdersByMenuItem(menuItemId);
+    public List<Order> getOrdersByMenuItem(@PathVariable Long menuItemId,
+                                           @RequestParam(required = false) Integer limit) {
+        return orderService.getOrdersByMenuItem(menuItemId, limit);
     }
     
     @PostMapping
     public ResponseEntity<?> createOrder(@RequestBody Order order) {
         try {
-            Order createdOrder = orderService.createOrder(order);
+            Order createdOrder = orderAdmissionControl.call(order.getUserEmail(), () -> orderService.createOrder(order));
             return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+        } catch (AdmissionRejectedException e) {
+            return rejected(e);
         } catch (IllegalArgumentException e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", e.getMessage());
@@ -66,12 +162,83 @@ public class OrderController {
         }
     }
     
+    @PostMapping("/cart")
+    public ResponseEntity<?> createCartOrder(@RequestBody CartOrderRequest request) {
+        try {
+            Order createdOrder = orderAdmissionControl.call(request.getUserEmail(), () -> orderService.createCartOrder(request));
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+        } catch (AdmissionRejectedException e) {
+            return rejected(e);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to create order: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+    
+    @PostMapping("/async")
+    public ResponseEntity<?> submitOrder(@RequestBody Order order) {
+        try {
+            orderAdmissionControl.checkUserRate(order.getUserEmail());
+            return orderIntakeService.submit(order)
+                    .<ResponseEntity<?>>map(status -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                            .location(URI.create("/api/orders/intake/" + status.getIntakeId()))
+                            .body(status))
+                    .orElseGet(() -> {
+                        Map<String, String> errorResponse = new HashMap<>();
+                        errorResponse.put("error", "Order intake is full, please retry");
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+                    });
+        } catch (AdmissionRejectedException e) {
+            return rejected(e);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/intake/{intakeId}")
+    public ResponseEntity<OrderIntakeStatus> getIntakeStatus(@PathVariable String intakeId) {
+        return orderIntakeService.getStatus(intakeId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // Runs an archival pass now instead of waiting for the schedule
+    @PostMapping("/archive")
+    public ResponseEntity<?> archiveOrders() {
+        long archived = orderArchiveService.archive();
+        if (archived < 0) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Order archival is already running");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        }
+        Map<String, Long> response = new HashMap<>();
+        response.put("archived", archived);
+        return ResponseEntity.ok(response);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<?> updateOrder(@PathVariable Long id, @RequestBody Order orderDetails) {
         try {
             return orderService.updateOrder(id, orderDetails)
                     .map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
+        } catch (OrderStatusConflictException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         } catch (Exception e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", "Failed to update order: " + e.getMessage());
@@ -87,6 +254,14 @@ public class OrderController {
                 return ResponseEntity.ok(updatedOrder);
             }
             return ResponseEntity.notFound().build();
+        } catch (OrderStatusConflictException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         } catch (Exception e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", "Failed to update order status: " + e.getMessage());
@@ -108,6 +283,14 @@ public class OrderController {
         }
     }
     
+    private ResponseEntity<Map<String, String>> rejected(AdmissionRejectedException e) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", e.getMessage());
+        return ResponseEntity.status(e.isUserLimited() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleException(Exception e) {
         Map<String, String> errorResponse = new HashMap<>();
@@ -0,0 +1,93 @@
+package com.foodiehub.controller;
+
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.service.MenuSnapshotService;
+import com.foodiehub.service.RestaurantFilterIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking handlers for the browse endpoints served by the reactive read
+ * server. Restaurants come from {@link RestaurantFilterIndex} and menus from
+ * prebuilt {@link MenuSnapshotService} bytes, so a warm request never leaves
+ * the event loop; the one blocking step, building a missing menu snapshot, is
+ * moved to the bounded elastic scheduler.
+ */
+@Component
+public class ReactiveReadHandler {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private RestaurantFilterIndex restaurantFilterIndex;
+
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+
+    // Streams one restaurant per line for NDJSON clients, written as the connection accepts them
+    public Mono<ServerResponse> listRestaurants(ServerRequest request) {
+        Flux<Restaurant> restaurants = Flux.defer(() -> Flux.fromIterable(restaurantFilterIndex.all()));
+        boolean streaming = request.headers().accept().stream().anyMatch(NDJSON::isCompatibleWith);
+        return ServerResponse.ok()
+                .contentType(streaming ? NDJSON : MediaType.APPLICATION_JSON)
+                .body(restaurants, Restaurant.class);
+    }
+
+    public Mono<ServerResponse> getRestaurant(ServerRequest request) {
+        Long id = parseId(request.pathVariable("id"));
+        if (id == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return Mono.justOrEmpty(restaurantFilterIndex.find(id))
+                .flatMap(restaurant -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(restaurant))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> getMenu(ServerRequest request) {
+        Long restaurantId = parseId(request.pathVariable("restaurantId"));
+        if (restaurantId == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return Mono.justOrEmpty(menuSnapshotService.peekSnapshot(restaurantId))
+                .switchIfEmpty(Mono.fromCallable(() -> menuSnapshotService.getSnapshot(restaurantId))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMap(snapshot -> {
+                    String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+                    if (ifNoneMatch != null && ifNoneMatch.contains(snapshot.getEtag())) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(snapshot.getEtag())
+                                .cacheControl(CacheControl.noCache())
+                                .build();
+                    }
+                    ServerResponse.BodyBuilder response = ServerResponse.ok()
+                            .eTag(snapshot.getEtag())
+                            .cacheControl(CacheControl.noCache())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                    String acceptEncoding = request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING);
+                    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").bodyValue(snapshot.getGzip());
+                    }
+                    return response.bodyValue(snapshot.getJson());
+                });
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
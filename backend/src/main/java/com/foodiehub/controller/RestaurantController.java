@@ -1,11 +1,19 @@
 package com.foodiehub.controller;
 
+import com.foodiehub.dto.CursorPage;
+import com.foodiehub.dto.RestaurantCardDTO;
+import com.foodiehub.dto.RestaurantDTO;
+import com.foodiehub.dto.RestaurantSearchResult;
 import com.foodiehub.model.Restaurant;
 import com.foodiehub.service.RestaurantService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/restaurants")
@@ -15,9 +23,56 @@ public class RestaurantController {
     @Autowired
     private RestaurantService restaurantService;
     
+    // Deprecated: answers one cursor page at a time with a Link to the next; new callers use /page
+    @Deprecated
     @GetMapping
-    public List<Restaurant> getAllRestaurants() {
-        return restaurantService.getAllRestaurants();
+    public ResponseEntity<?> getAllRestaurants(@RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<Restaurant> page = restaurantService.getRestaurantsPage(cursor, size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+            if (page.getNextCursor() != null) {
+                response.header(HttpHeaders.LINK, "</api/restaurants?cursor=" + page.getNextCursor()
+                        + (size != null ? "&size=" + size : "") + ">; rel=\"next\"");
+            }
+            return response.body(page.getItems());
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<?> getRestaurantsPage(@RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<Restaurant> page = restaurantService.getRestaurantsPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/names")
+    public List<RestaurantDTO> getRestaurantNames() {
+        return restaurantService.getRestaurantNames();
+    }
+    
+    @GetMapping("/cards")
+    public List<RestaurantCardDTO> getRestaurantCards() {
+        return restaurantService.getRestaurantCards();
+    }
+    
+    @GetMapping("/search")
+    public RestaurantSearchResult searchRestaurants(@RequestParam(required = false) List<String> cuisine,
+                                                    @RequestParam(required = false) List<String> priceRange,
+                                                    @RequestParam(required = false) Double minRating,
+                                                    @RequestParam(required = false) Boolean veg,
+                                                    @RequestParam(required = false) Boolean open) {
+        return restaurantService.searchRestaurants(cuisine, priceRange, minRating, veg, open);
     }
     
     @GetMapping("/{id}")
@@ -0,0 +1,98 @@
+package com.foodiehub.dto;
+
+import java.util.List;
+
+public class CartOrderRequest {
+    private String userName;
+    private String userEmail;
+    private String address;
+    private String phoneNumber;
+    private String deliveryNotes;
+    private String paymentMethod;
+    private List<CartItem> items;
+
+    public static class CartItem {
+        private Long menuItemId;
+        private Integer quantity;
+
+        public CartItem() {
+        }
+
+        public CartItem(Long menuItemId, Integer quantity) {
+            this.menuItemId = menuItemId;
+            this.quantity = quantity;
+        }
+
+        public Long getMenuItemId() {
+            return menuItemId;
+        }
+
+        public void setMenuItemId(Long menuItemId) {
+            this.menuItemId = menuItemId;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public void setUserEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getDeliveryNotes() {
+        return deliveryNotes;
+    }
+
+    public void setDeliveryNotes(String deliveryNotes) {
+        this.deliveryNotes = deliveryNotes;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public List<CartItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CartItem> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,74 @@
+package com.foodiehub.dto;
+
+/**
+ * Aggregate view of one restaurant's menu, computed in the database.
+ */
+public class MenuSummaryDTO {
+    private Long restaurantId;
+    private Long itemCount;
+    private Long availableCount;
+    private Long vegCount;
+    private Double minPrice;
+    private Double maxPrice;
+    
+    public MenuSummaryDTO() {
+    }
+    
+    public MenuSummaryDTO(Long restaurantId, Long itemCount, Long availableCount, Long vegCount,
+                          Double minPrice, Double maxPrice) {
+        this.restaurantId = restaurantId;
+        this.itemCount = itemCount;
+        this.availableCount = availableCount;
+        this.vegCount = vegCount;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+    
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+    
+    public Long getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(Long itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    public Long getAvailableCount() {
+        return availableCount;
+    }
+    
+    public void setAvailableCount(Long availableCount) {
+        this.availableCount = availableCount;
+    }
+    
+    public Long getVegCount() {
+        return vegCount;
+    }
+    
+    public void setVegCount(Long vegCount) {
+        this.vegCount = vegCount;
+    }
+    
+    public Double getMinPrice() {
+        return minPrice;
+    }
+    
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+    
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+    
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+}
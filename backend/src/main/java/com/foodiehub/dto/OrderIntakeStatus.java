@@ -0,0 +1,54 @@
+package com.foodiehub.dto;
+
+public class OrderIntakeStatus {
+    public static final String QUEUED = "QUEUED";
+    public static final String COMMITTED = "COMMITTED";
+    public static final String FAILED = "FAILED";
+
+    private String intakeId;
+    private String state;
+    private Long orderId;
+    private String error;
+
+    public OrderIntakeStatus() {
+    }
+
+    public OrderIntakeStatus(String intakeId, String state, Long orderId, String error) {
+        this.intakeId = intakeId;
+        this.state = state;
+        this.orderId = orderId;
+        this.error = error;
+    }
+
+    public String getIntakeId() {
+        return intakeId;
+    }
+
+    public void setIntakeId(String intakeId) {
+        this.intakeId = intakeId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,62 @@
+package com.foodiehub.dto;
+
+import java.time.LocalDateTime;
+
+public class OrderStatusEvent {
+    private Long orderId;
+    private String userName;
+    private String status;
+    private String paymentStatus;
+    private LocalDateTime changedAt;
+
+    public OrderStatusEvent() {
+    }
+
+    public OrderStatusEvent(Long orderId, String userName, String status, String paymentStatus, LocalDateTime changedAt) {
+        this.orderId = orderId;
+        this.userName = userName;
+        this.status = status;
+        this.paymentStatus = paymentStatus;
+        this.changedAt = changedAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
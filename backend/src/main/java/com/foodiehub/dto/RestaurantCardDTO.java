@@ -0,0 +1,119 @@
+package com.foodiehub.dto;
+
+import java.util.List;
+
+/**
+ * Listing view of a restaurant: everything a card needs, without the menu.
+ * Built by a constructor projection; cuisines are attached afterwards from a
+ * single batched query.
+ */
+public class RestaurantCardDTO extends RestaurantDTO {
+    private String address;
+    private String priceRange;
+    private Double rating;
+    private Integer reviewCount;
+    private String deliveryTime;
+    private String imageUrl;
+    private Integer priceForTwo;
+    private Boolean isVeg;
+    private Boolean isOpen;
+    private List<String> cuisine;
+    
+    public RestaurantCardDTO() {
+    }
+    
+    public RestaurantCardDTO(Long id, String name, String address, String priceRange, Double rating,
+                             Integer reviewCount, String deliveryTime, String imageUrl, Integer priceForTwo,
+                             Boolean isVeg, Boolean isOpen) {
+        super(id, name);
+        this.address = address;
+        this.priceRange = priceRange;
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.deliveryTime = deliveryTime;
+        this.imageUrl = imageUrl;
+        this.priceForTwo = priceForTwo;
+        this.isVeg = isVeg;
+        this.isOpen = isOpen;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public String getPriceRange() {
+        return priceRange;
+    }
+    
+    public void setPriceRange(String priceRange) {
+        this.priceRange = priceRange;
+    }
+    
+    public Double getRating() {
+        return rating;
+    }
+    
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+    
+    public Integer getReviewCount() {
+        return reviewCount;
+    }
+    
+    public void setReviewCount(Integer reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+    
+    public String getDeliveryTime() {
+        return deliveryTime;
+    }
+    
+    public void setDeliveryTime(String deliveryTime) {
+        this.deliveryTime = deliveryTime;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+    
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+    
+    public Integer getPriceForTwo() {
+        return priceForTwo;
+    }
+    
+    public void setPriceForTwo(Integer priceForTwo) {
+        this.priceForTwo = priceForTwo;
+    }
+    
+    public Boolean getIsVeg() {
+        return isVeg;
+    }
+    
+    public void setIsVeg(Boolean isVeg) {
+        this.isVeg = isVeg;
+    }
+    
+    public Boolean getIsOpen() {
+        return isOpen;
+    }
+    
+    public void setIsOpen(Boolean isOpen) {
+        this.isOpen = isOpen;
+    }
+    
+    public List<String> getCuisine() {
+        return cuisine;
+    }
+    
+    public void setCuisine(List<String> cuisine) {
+        this.cuisine = cuisine;
+    }
+}
@@ -0,0 +1,44 @@
+package com.foodiehub.dto;
+
+import com.foodiehub.model.Restaurant;
+import java.util.List;
+import java.util.Map;
+
+public class RestaurantSearchResult {
+    private List<Restaurant> restaurants;
+    private int total;
+    private Map<String, Map<String, Integer>> facets;
+
+    public RestaurantSearchResult() {
+    }
+
+    public RestaurantSearchResult(List<Restaurant> restaurants, int total, Map<String, Map<String, Integer>> facets) {
+        this.restaurants = restaurants;
+        this.total = total;
+        this.facets = facets;
+    }
+
+    public List<Restaurant> getRestaurants() {
+        return restaurants;
+    }
+
+    public void setRestaurants(List<Restaurant> restaurants) {
+        this.restaurants = restaurants;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
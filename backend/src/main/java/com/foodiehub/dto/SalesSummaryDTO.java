@@ -0,0 +1,94 @@
+package com.foodiehub.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sales of one restaurant over {@code [periodStart, periodEnd)}, read from the
+ * rollups: a whole date range for summaries, or one hour or day for series.
+ */
+public class SalesSummaryDTO {
+    private Long restaurantId;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private long orderCount;
+    private BigDecimal revenue = BigDecimal.ZERO;
+    private Map<String, Long> ordersByStatus = new TreeMap<>();
+    private Map<String, BigDecimal> revenueByStatus = new TreeMap<>();
+    private Map<String, Long> ordersByPaymentMethod = new TreeMap<>();
+
+    public SalesSummaryDTO() {
+    }
+
+    public SalesSummaryDTO(Long restaurantId, LocalDateTime periodStart, LocalDateTime periodEnd) {
+        this.restaurantId = restaurantId;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public LocalDateTime getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDateTime periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public LocalDateTime getPeriodEnd() {
+        return periodEnd;
+    }
+
+    public void setPeriodEnd(LocalDateTime periodEnd) {
+        this.periodEnd = periodEnd;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public Map<String, Long> getOrdersByStatus() {
+        return ordersByStatus;
+    }
+
+    public void setOrdersByStatus(Map<String, Long> ordersByStatus) {
+        this.ordersByStatus = ordersByStatus;
+    }
+
+    public Map<String, BigDecimal> getRevenueByStatus() {
+        return revenueByStatus;
+    }
+
+    public void setRevenueByStatus(Map<String, BigDecimal> revenueByStatus) {
+        this.revenueByStatus = revenueByStatus;
+    }
+
+    public Map<String, Long> getOrdersByPaymentMethod() {
+        return ordersByPaymentMethod;
+    }
+
+    public void setOrdersByPaymentMethod(Map<String, Long> ordersByPaymentMethod) {
+        this.ordersByPaymentMethod = ordersByPaymentMethod;
+    }
+}
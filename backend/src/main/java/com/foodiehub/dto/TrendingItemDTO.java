@@ -0,0 +1,91 @@
+package com.foodiehub.dto;
+
+public class TrendingItemDTO {
+    private Long menuItemId;
+    private String name;
+    private Double price;
+    private String imageUrl;
+    private Boolean isVeg;
+    private Long restaurantId;
+    private String restaurantName;
+    private long orderCount;
+
+    public TrendingItemDTO() {
+    }
+
+    public TrendingItemDTO(Long menuItemId, String name, Double price, String imageUrl, Boolean isVeg,
+                           Long restaurantId, String restaurantName, long orderCount) {
+        this.menuItemId = menuItemId;
+        this.name = name;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.isVeg = isVeg;
+        this.restaurantId = restaurantId;
+        this.restaurantName = restaurantName;
+        this.orderCount = orderCount;
+    }
+
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public void setMenuItemId(Long menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getIsVeg() {
+        return isVeg;
+    }
+
+    public void setIsVeg(Boolean isVeg) {
+        this.isVeg = isVeg;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getRestaurantName() {
+        return restaurantName;
+    }
+
+    public void setRestaurantName(String restaurantName) {
+        this.restaurantName = restaurantName;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+}
@@ -0,0 +1,120 @@
+package com.foodiehub.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A finished order moved out of {@code orders} by the archival job. Rows are
+ * written with INSERT ... SELECT and never modified, so the mapping is read-only;
+ * the menu item is kept as a bare id so archived rows do not pin catalogue rows.
+ */
+@Entity
+@Immutable
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_orders_archive_user_email_date", columnList = "user_email, order_date DESC"),
+    @Index(name = "idx_orders_archive_user_name_date", columnList = "user_name, order_date DESC")
+})
+public class ArchivedOrder {
+    @Id
+    private Long id;
+
+    @Column(name = "menu_item_id", nullable = false)
+    private Long menuItemId;
+
+    @Column(name = "user_name", nullable = false)
+    private String userName;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private Double price;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(name = "phone_number")
+    private String phoneNumber;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Column(name = "delivery_notes")
+    private String deliveryNotes;
+
+    @Column(name = "payment_method", nullable = false)
+    private String paymentMethod;
+
+    @Column(name = "payment_status")
+    private String paymentStatus;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "order")
+    @OrderBy("id")
+    private List<ArchivedOrderLine> lines = new ArrayList<>();
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    public String getDeliveryNotes() {
+        return deliveryNotes;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public List<ArchivedOrderLine> getLines() {
+        return lines;
+    }
+}
@@ -0,0 +1,46 @@
+package com.foodiehub.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "order_lines_archive")
+public class ArchivedOrderLine {
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private ArchivedOrder order;
+
+    @Column(name = "menu_item_id", nullable = false)
+    private Long menuItemId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "unit_price", nullable = false)
+    private Double unitPrice;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public ArchivedOrder getOrder() {
+        return order;
+    }
+
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Double getUnitPrice() {
+        return unitPrice;
+    }
+}
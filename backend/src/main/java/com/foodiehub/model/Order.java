@@ -2,12 +2,25 @@ package com.foodiehub.model;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_user_email_date", columnList = "user_email, order_date DESC"),
+    @Index(name = "idx_orders_user_name_date", columnList = "user_name, order_date DESC"),
+    @Index(name = "idx_orders_status_date", columnList = "status, order_date"),
+    @Index(name = "idx_orders_menu_item_date", columnList = "menu_item_id, order_date DESC"),
+    @Index(name = "idx_orders_order_date", columnList = "order_date")
+})
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Order {
     @Id
@@ -49,6 +62,20 @@ public class Order {
     @Column(name = "payment_status")
     private String paymentStatus;
 
+    // Bumped by every write, including the status compare-and-set, so a stale read-modify-write fails
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Populated for cart checkouts; single-item orders keep using menuItem alone. Only written to JSON
+    // once loaded, so list and export reads never fetch lines just to serialize them
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonManagedReference
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = Order.NotLoaded.class)
+    private List<OrderLine> lines = new ArrayList<>();
+
     // Constructor with default values
     public Order() {
         this.orderDate = LocalDateTime.now();
@@ -152,4 +179,38 @@ public class Order {
     public void setPaymentStatus(String paymentStatus) {
         this.paymentStatus = paymentStatus;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLine> lines) {
+        this.lines = lines;
+    }
+
+    public void addLine(OrderLine line) {
+        line.setOrder(this);
+        lines.add(line);
+    }
+
+    // Jackson value filter: true (leave out) for lines that were not fetched, lazy or left null by a list read
+    static final class NotLoaded {
+        @Override
+        public boolean equals(Object value) {
+            return value == null || !Hibernate.isInitialized(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.foodiehub.model;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Order lifecycle. Statuses are persisted as their label so existing rows and
+ * clients keep working; the enum only decides which transitions are legal.
+ */
+public enum OrderStatus {
+    PENDING("Pending"),
+    CONFIRMED("Confirmed"),
+    PREPARING("Preparing"),
+    OUT_FOR_DELIVERY("OutForDelivery"),
+    DELIVERED("Delivered"),
+    CANCELLED("Cancelled");
+
+    private final String label;
+
+    OrderStatus(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Set<OrderStatus> next() {
+        switch (this) {
+            case PENDING:
+                return EnumSet.of(CONFIRMED, CANCELLED);
+            case CONFIRMED:
+                return EnumSet.of(PREPARING, CANCELLED);
+            case PREPARING:
+                return EnumSet.of(OUT_FOR_DELIVERY, CANCELLED);
+            case OUT_FOR_DELIVERY:
+                return EnumSet.of(DELIVERED);
+            default:
+                return EnumSet.noneOf(OrderStatus.class);
+        }
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return next().contains(target);
+    }
+
+    public boolean isTerminal() {
+        return next().isEmpty();
+    }
+
+    // Labels of every status that may legally move to this one
+    public List<String> predecessorLabels() {
+        List<String> labels = new ArrayList<>();
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                labels.add(status.label);
+            }
+        }
+        return labels;
+    }
+
+    // Accepts "OutForDelivery", "out_for_delivery", "Out for delivery" and JSON-quoted values
+    public static OrderStatus fromLabel(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+        String normalized = value.trim().replace("\"", "").replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+        for (OrderStatus status : values()) {
+            if (status.label.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status: " + value.trim());
+    }
+}
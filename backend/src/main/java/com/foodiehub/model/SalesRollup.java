@@ -0,0 +1,40 @@
+package com.foodiehub.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+
+/**
+ * Order count and revenue of one {@link SalesRollupKey} cell. Totals are not
+ * stored separately: every order is counted once under its status, so summing
+ * the status rows of a bucket gives the bucket's totals. Rows are maintained with
+ * JDBC upserts by SalesRollupService; the mapping is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "sales_rollups", indexes = {
+    @Index(name = "idx_sales_rollups_bucket", columnList = "granularity, bucket_start")
+})
+public class SalesRollup {
+    @EmbeddedId
+    private SalesRollupKey key;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal revenue;
+
+    // Getters
+    public SalesRollupKey getKey() {
+        return key;
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,102 @@
+package com.foodiehub.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * One rollup cell: a restaurant, an hour or day bucket, and one value of the
+ * status or payment-method dimension. Keys sort in primary-key order, which is
+ * also the order rows are locked in when deltas are applied.
+ */
+@Embeddable
+public class SalesRollupKey implements Serializable, Comparable<SalesRollupKey> {
+
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+
+    public static final String STATUS = "status";
+    public static final String PAYMENT_METHOD = "payment_method";
+
+    private static final Comparator<SalesRollupKey> ORDER = Comparator
+            .comparing(SalesRollupKey::getRestaurantId)
+            .thenComparing(SalesRollupKey::getGranularity)
+            .thenComparing(SalesRollupKey::getBucketStart)
+            .thenComparing(SalesRollupKey::getDimension)
+            .thenComparing(SalesRollupKey::getDimensionValue);
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(nullable = false, length = 8)
+    private String granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false, length = 16)
+    private String dimension;
+
+    @Column(name = "dimension_value", nullable = false)
+    private String dimensionValue;
+
+    public SalesRollupKey() {
+    }
+
+    public SalesRollupKey(Long restaurantId, String granularity, LocalDateTime bucketStart,
+                          String dimension, String dimensionValue) {
+        this.restaurantId = restaurantId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.dimension = dimension;
+        this.dimensionValue = dimensionValue;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public String getDimensionValue() {
+        return dimensionValue;
+    }
+
+    @Override
+    public int compareTo(SalesRollupKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SalesRollupKey other)) {
+            return false;
+        }
+        return restaurantId.equals(other.restaurantId)
+                && granularity.equals(other.granularity)
+                && bucketStart.equals(other.bucketStart)
+                && dimension.equals(other.dimension)
+                && dimensionValue.equals(other.dimensionValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, granularity, bucketStart, dimension, dimensionValue);
+    }
+}
@@ -0,0 +1,21 @@
+package com.foodiehub.repository;
+
+import com.foodiehub.model.ArchivedOrder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+    // Newest first, served by the (user, order_date) indexes on orders_archive
+    List<ArchivedOrder> findByUserNameOrderByOrderDateDesc(String userName);
+    List<ArchivedOrder> findByUserNameOrderByOrderDateDesc(String userName, Limit limit);
+    List<ArchivedOrder> findByUserEmailOrderByOrderDateDesc(String userEmail);
+    List<ArchivedOrder> findByUserEmailOrderByOrderDateDesc(String userEmail, Limit limit);
+
+    @EntityGraph(attributePaths = "lines")
+    Optional<ArchivedOrder> findWithLinesById(Long id);
+}
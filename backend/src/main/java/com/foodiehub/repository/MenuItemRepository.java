@@ -1,14 +1,40 @@
 package com.foodiehub.repository;
 
+import com.foodiehub.dto.MenuSummaryDTO;
 import com.foodiehub.model.MenuItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
+    // Finder results go to the query cache; Hibernate invalidates them on any write to the table
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<MenuItem> findAll();
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByRestaurantId(Long restaurantId);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByRestaurantIdAndIsAvailable(Long restaurantId, Boolean isAvailable);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByRestaurantIdAndIsVeg(Long restaurantId, Boolean isVeg);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByRestaurantIdAndTagsContaining(Long restaurantId, String tag);
-} 
\ No newline at end of file
+    
+    List<MenuItem> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Query("SELECT new com.foodiehub.dto.MenuSummaryDTO(m.restaurant.id, COUNT(m), " +
+           "SUM(CASE WHEN m.isAvailable = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN m.isVeg = true THEN 1L ELSE 0L END), MIN(m.price), MAX(m.price)) " +
+           "FROM MenuItem m GROUP BY m.restaurant.id ORDER BY m.restaurant.id")
+    List<MenuSummaryDTO> summarizeByRestaurant();
+}
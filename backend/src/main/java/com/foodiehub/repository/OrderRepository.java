@@ -1,14 +1,66 @@
 package com.foodiehub.repository;
 
 import com.foodiehub.model.Order;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserName(String userName);
     List<Order> findByUserEmail(String userEmail);
     List<Order> findByStatus(String status);
-    List<Order> findByMenuItemId(Long menuItemId);
-} 
\ No newline at end of file
+    // Derived menuItem.id finders join menu_items and scan orders; comparing the foreign key uses its index
+    @Query("SELECT o FROM Order o WHERE o.menuItem.id = :menuItemId")
+    List<Order> findByMenuItemId(@Param("menuItemId") Long menuItemId);
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    // Single-order reads return the cart lines too; list finders leave them unloaded
+    @EntityGraph(attributePaths = "lines")
+    Optional<Order> findWithLinesById(Long id);
+    
+    // Newest first (oldest first for status queues), each served by an (x, order_date) index
+    List<Order> findByUserNameOrderByOrderDateDesc(String userName, Limit limit);
+    List<Order> findByUserEmailOrderByOrderDateDesc(String userEmail, Limit limit);
+    List<Order> findByStatusOrderByOrderDateAsc(String status, Limit limit);
+    @Query("SELECT o FROM Order o WHERE o.menuItem.id = :menuItemId ORDER BY o.orderDate DESC")
+    List<Order> findByMenuItemIdOrderByOrderDateDesc(@Param("menuItemId") Long menuItemId, Limit limit);
+    
+    // Compare-and-set: only moves the order if it is still in one of the expected statuses.
+    // Bumps the version so a PUT that read the order before this fails instead of writing it back.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.version = o.version + 1 WHERE o.id = :id AND o.status IN :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") Collection<String> from,
+                         @Param("to") String to);
+    
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    String findStatusById(@Param("id") Long id);
+    
+    // Must be consumed inside a transaction; rows are fetched from a server-side cursor
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM Order o " +
+           "WHERE (:from IS NULL OR o.orderDate >= :from) " +
+           "AND (:to IS NULL OR o.orderDate < :to) " +
+           "AND (:status IS NULL OR o.status = :status) " +
+           "ORDER BY o.id")
+    Stream<Order> streamForExport(@Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("status") String status);
+}
@@ -1,15 +1,53 @@
 package com.foodiehub.repository;
 
+import com.foodiehub.dto.RestaurantCardDTO;
+import com.foodiehub.dto.RestaurantDTO;
 import com.foodiehub.model.Restaurant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
+    // Finder results go to the query cache; Hibernate invalidates them on any write to the table
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Restaurant> findAll();
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Restaurant> findByCuisineContaining(String cuisine);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Restaurant> findByPriceRange(String priceRange);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Restaurant> findByRatingGreaterThanEqual(Double rating);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Restaurant> findByIsVeg(Boolean isVeg);
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Restaurant> findByIsOpen(Boolean isOpen);
-} 
\ No newline at end of file
+    
+    List<Restaurant> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    // Projections: select only the listed columns and never touch menu_items
+    @Query("SELECT new com.foodiehub.dto.RestaurantDTO(r.id, r.name) FROM Restaurant r ORDER BY r.name")
+    List<RestaurantDTO> findAllNames();
+    
+    @Query("SELECT new com.foodiehub.dto.RestaurantCardDTO(r.id, r.name, r.address, r.priceRange, r.rating, " +
+           "r.reviewCount, r.deliveryTime, r.imageUrl, r.priceForTwo, r.isVeg, r.isOpen) " +
+           "FROM Restaurant r ORDER BY r.id")
+    List<RestaurantCardDTO> findAllCards();
+    
+    // One query for the cuisines of many restaurants; rows are [restaurantId, cuisine]
+    @Query("SELECT r.id, c FROM Restaurant r JOIN r.cuisine c WHERE r.id IN :ids")
+    List<Object[]> findCuisinesByRestaurantIds(@Param("ids") Collection<Long> ids);
+}
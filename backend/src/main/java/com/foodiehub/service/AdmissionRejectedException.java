@@ -0,0 +1,26 @@
+package com.foodiehub.service;
+
+/**
+ * Thrown before any work is done when an order is shed: {@code userLimited} means
+ * the user's token bucket is empty (429), otherwise the write path is at its
+ * concurrency limit (503). Either way the client should retry after
+ * {@link #getRetryAfterSeconds()}.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+    private final boolean userLimited;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(String message, boolean userLimited, long retryAfterSeconds) {
+        super(message);
+        this.userLimited = userLimited;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public boolean isUserLimited() {
+        return userLimited;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,9 +1,15 @@
 package com.foodiehub.service;
 
+import com.foodiehub.dto.CursorPage;
+import com.foodiehub.dto.MenuSummaryDTO;
+import com.foodiehub.dto.TrendingItemDTO;
 import com.foodiehub.model.MenuItem;
 import com.foodiehub.repository.MenuItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,35 +19,78 @@ public class MenuItemService {
     @Autowired
     private MenuItemRepository menuItemRepository;
     
-    public List<MenuItem> getAllMenuItems() {
-        return menuItemRepository.findAll();
+    @Autowired
+    private MenuItemTagIndex menuItemTagIndex;
+    
+    @Autowired
+    private TrendingItemsService trendingItemsService;
+    
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+    
+    @Transactional(readOnly = true)
+    public CursorPage<MenuItem> getMenuItemsPage(String cursor, Integer size) {
+        Long afterId = CursorPage.decodeCursor(cursor);
+        int pageSize = CursorPage.clampPageSize(size);
+        List<MenuItem> rows = menuItemRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, MenuItem::getId);
     }
     
+    @Transactional(readOnly = true)
     public Optional<MenuItem> getMenuItemById(Long id) {
         return menuItemRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
     public List<MenuItem> getMenuItemsByRestaurant(Long restaurantId) {
         return menuItemRepository.findByRestaurantId(restaurantId);
     }
     
+    @Transactional(readOnly = true)
+    public List<MenuSummaryDTO> getMenuSummaries() {
+        return menuItemRepository.summarizeByRestaurant();
+    }
+    
+    public MenuSnapshotService.MenuSnapshot getMenuSnapshot(Long restaurantId) {
+        return menuSnapshotService.getSnapshot(restaurantId);
+    }
+    
+    @Transactional(readOnly = true)
     public List<MenuItem> getAvailableMenuItemsByRestaurant(Long restaurantId) {
         return menuItemRepository.findByRestaurantIdAndIsAvailable(restaurantId, true);
     }
     
+    @Transactional(readOnly = true)
     public List<MenuItem> getVegMenuItemsByRestaurant(Long restaurantId) {
         return menuItemRepository.findByRestaurantIdAndIsVeg(restaurantId, true);
     }
     
+    @Transactional(readOnly = true)
     public List<MenuItem> getMenuItemsByTag(Long restaurantId, String tag) {
         return menuItemRepository.findByRestaurantIdAndTagsContaining(restaurantId, tag);
     }
     
+    public List<MenuItem> queryMenuItemsByTags(Collection<String> allTags, Collection<String> anyTags,
+                                               Boolean isVeg, Boolean isAvailable, Integer limit) {
+        return menuItemTagIndex.query(allTags, anyTags, isVeg, isAvailable, CursorPage.clampPageSize(limit));
+    }
+    
+    public List<TrendingItemDTO> getTrendingItems(Integer k) {
+        return trendingItemsService.getTopItems(k == null || k <= 0 ? 8 : Math.min(k, 50));
+    }
+    
     public MenuItem saveMenuItem(MenuItem menuItem) {
-        return menuItemRepository.save(menuItem);
+        MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+        menuItemTagIndex.put(savedMenuItem);
+        menuSnapshotService.invalidate(
+                savedMenuItem.getRestaurant() != null ? savedMenuItem.getRestaurant().getId() : null,
+                savedMenuItem.getId());
+        return savedMenuItem;
     }
     
     public void deleteMenuItem(Long id) {
         menuItemRepository.deleteById(id);
+        menuItemTagIndex.remove(id);
+        menuSnapshotService.invalidate(null, id);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.foodiehub.service;
+
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.MenuItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from tag to the sorted set of menu item ids carrying it.
+ * Queries intersect the "all" postings (smallest list first) and union the
+ * "any" postings, then apply the veg/available flags from the in-memory rows,
+ * so tag carousels never join menu_item_tags at request time.
+ */
+@Component
+public class MenuItemTagIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuItemTagIndex.class);
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+    private final Map<Long, MenuItem> items = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<MenuItem> menuItems = menuItemRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            items.clear();
+            for (MenuItem menuItem : menuItems) {
+                putLocked(menuItem);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Menu item tag index built with {} items and {} tags", menuItems.size(), postings.size());
+    }
+
+    public void put(MenuItem menuItem) {
+        if (menuItem == null || menuItem.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(menuItem.getId());
+            putLocked(menuItem);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long menuItemId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(menuItemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Drops every item of a deleted restaurant; the rows went with it through the cascade
+    public void removeRestaurant(Long restaurantId) {
+        lock.writeLock().lock();
+        try {
+            for (Long menuItemId : itemIdsOfLocked(restaurantId)) {
+                removeLocked(menuItemId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-indexes the items of a renamed restaurant, which carry its name in their rows
+    public void reindexRestaurant(Restaurant restaurant) {
+        if (restaurant == null || restaurant.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long menuItemId : itemIdsOfLocked(restaurant.getId())) {
+                // Readers may hold the old row, so the renamed one is a fresh copy
+                MenuItem row = snapshot(items.get(menuItemId));
+                row.getRestaurant().setName(restaurant.getName());
+                removeLocked(menuItemId);
+                putLocked(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // In-memory view of a menu item, used to validate writes without a query
+    public Optional<MenuItem> find(Long menuItemId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(items.get(menuItemId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Like find, but an unknown (e.g. since deleted) item still yields a stub carrying its id,
+    // which is all an order serializes; for order rows read without joining the catalogue
+    public MenuItem resolve(Long menuItemId) {
+        return find(menuItemId).orElseGet(() -> {
+            MenuItem menuItem = new MenuItem();
+            menuItem.setId(menuItemId);
+            return menuItem;
+        });
+    }
+
+    /**
+     * Returns items carrying every tag in {@code allTags} and at least one tag in
+     * {@code anyTags}, optionally filtered by veg and availability, in id order.
+     */
+    public List<MenuItem> query(Collection<String> allTags, Collection<String> anyTags,
+                                Boolean isVeg, Boolean isAvailable, int limit) {
+        boolean hasAll = allTags != null && !allTags.isEmpty();
+        boolean hasAny = anyTags != null && !anyTags.isEmpty();
+        if (!hasAll && !hasAny) {
+            throw new IllegalArgumentException("At least one tag is required");
+        }
+
+        lock.readLock().lock();
+        try {
+            List<NavigableSet<Long>> required = new ArrayList<>();
+            if (hasAll) {
+                for (String tag : allTags) {
+                    NavigableSet<Long> ids = postings.get(key(tag));
+                    if (ids == null) {
+                        return new ArrayList<>();
+                    }
+                    required.add(ids);
+                }
+            }
+            if (hasAny) {
+                NavigableSet<Long> union = new TreeSet<>();
+                for (String tag : anyTags) {
+                    NavigableSet<Long> ids = postings.get(key(tag));
+                    if (ids != null) {
+                        union.addAll(ids);
+                    }
+                }
+                required.add(union);
+            }
+            required.sort(Comparator.comparingInt(NavigableSet::size));
+
+            List<MenuItem> results = new ArrayList<>();
+            NavigableSet<Long> smallest = required.get(0);
+            for (Long id : smallest) {
+                if (!containedInAll(id, required)) {
+                    continue;
+                }
+                MenuItem item = items.get(id);
+                if (isVeg != null && !isVeg.equals(Boolean.TRUE.equals(item.getIsVeg()))) {
+                    continue;
+                }
+                if (isAvailable != null && !isAvailable.equals(Boolean.TRUE.equals(item.getIsAvailable()))) {
+                    continue;
+                }
+                results.add(item);
+                if (results.size() >= limit) {
+                    break;
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containedInAll(Long id, List<NavigableSet<Long>> required) {
+        for (int i = 1; i < required.size(); i++) {
+            if (!required.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putLocked(MenuItem menuItem) {
+        MenuItem row = snapshot(menuItem);
+        items.put(row.getId(), row);
+        if (row.getTags() != null) {
+            for (String tag : row.getTags()) {
+                if (tag != null && !tag.isBlank()) {
+                    postings.computeIfAbsent(key(tag), k -> new TreeSet<>()).add(row.getId());
+                }
+            }
+        }
+    }
+
+    private void removeLocked(Long menuItemId) {
+        MenuItem previous = items.remove(menuItemId);
+        if (previous == null || previous.getTags() == null) {
+            return;
+        }
+        for (String tag : previous.getTags()) {
+            if (tag == null) {
+                continue;
+            }
+            NavigableSet<Long> ids = postings.get(key(tag));
+            if (ids != null) {
+                ids.remove(menuItemId);
+                if (ids.isEmpty()) {
+                    postings.remove(key(tag));
+                }
+            }
+        }
+    }
+
+    private List<Long> itemIdsOfLocked(Long restaurantId) {
+        List<Long> ids = new ArrayList<>();
+        for (MenuItem row : items.values()) {
+            if (row.getRestaurant() != null && restaurantId.equals(row.getRestaurant().getId())) {
+                ids.add(row.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static String key(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Detached copy so results serialize without touching the persistence context
+    private static MenuItem snapshot(MenuItem source) {
+        MenuItem copy = new MenuItem();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setDescription(source.getDescription());
+        copy.setPrice(source.getPrice());
+        copy.setImageUrl(source.getImageUrl());
+        copy.setIsVeg(source.getIsVeg());
+        copy.setIsAvailable(source.getIsAvailable());
+        copy.setTags(source.getTags() != null ? new ArrayList<>(source.getTags()) : null);
+        if (source.getRestaurant() != null) {
+            Restaurant restaurant = new Restaurant();
+            restaurant.setId(source.getRestaurant().getId());
+            restaurant.setName(source.getRestaurant().getName());
+            copy.setRestaurant(restaurant);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,176 @@
+package com.foodiehub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodiehub.config.ReplicaRoutingDataSource;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.repository.MenuItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps each restaurant's menu as ready-to-send JSON and gzip bytes. A snapshot
+ * is valid while the restaurant's version is unchanged; menu writes bump the
+ * version and the next read rebuilds it, so steady-state reads cost neither a
+ * query nor a Jackson pass.
+ */
+@Service
+public class MenuSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuSnapshotService.class);
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Long, MenuSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public MenuSnapshotService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public MenuSnapshot getSnapshot(Long restaurantId) {
+        MenuSnapshot snapshot = peekSnapshot(restaurantId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // Concurrent misses for the same menu share one query and one serialization pass
+        return singleFlight.execute("menu", restaurantId, () -> load(restaurantId));
+    }
+
+    private MenuSnapshot load(Long restaurantId) {
+        long version = versions.getOrDefault(restaurantId, 0L);
+        MenuSnapshot snapshot = snapshots.get(restaurantId);
+        if (snapshot != null && snapshot.getVersion() == version) {
+            return snapshot;
+        }
+
+        // Built on the primary: a lagging replica could return the rows from before the write that bumped
+        // the version, and that stale menu would then be cached and served under the new version's ETag
+        MenuSnapshot built = ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(tx ->
+                build(restaurantId, version, menuItemRepository.findByRestaurantId(restaurantId))));
+        // Only publish if no write landed while we were reading
+        if (versions.getOrDefault(restaurantId, 0L) == version) {
+            snapshots.put(restaurantId, built);
+            logger.debug("Built menu snapshot for restaurant {} (version {}, {} bytes)",
+                    restaurantId, version, built.getJson().length);
+        }
+        return built;
+    }
+
+    // Current snapshot if one is built and still valid, without touching the database
+    public MenuSnapshot peekSnapshot(Long restaurantId) {
+        MenuSnapshot snapshot = snapshots.get(restaurantId);
+        if (snapshot != null && snapshot.getVersion() == versions.getOrDefault(restaurantId, 0L)) {
+            return snapshot;
+        }
+        return null;
+    }
+
+    /**
+     * Invalidates the snapshot of {@code restaurantId} and of any restaurant whose
+     * snapshot still lists {@code menuItemId}, which covers items that moved.
+     */
+    public void invalidate(Long restaurantId, Long menuItemId) {
+        if (restaurantId != null) {
+            bump(restaurantId);
+        }
+        if (menuItemId != null) {
+            snapshots.forEach((id, snapshot) -> {
+                if (snapshot.getMenuItemIds().contains(menuItemId)) {
+                    bump(id);
+                }
+            });
+        }
+    }
+
+    private void bump(Long restaurantId) {
+        versions.merge(restaurantId, 1L, Long::sum);
+        snapshots.remove(restaurantId);
+    }
+
+    private MenuSnapshot build(Long restaurantId, long version, List<MenuItem> menuItems) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(menuItems);
+            Set<Long> ids = new HashSet<>();
+            for (MenuItem menuItem : menuItems) {
+                ids.add(menuItem.getId());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            String etag = "\"" + restaurantId + "-" + version + "-" + Long.toHexString(crc.getValue()) + "\"";
+            return new MenuSnapshot(version, etag, json, gzip(json), ids);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu for restaurant " + restaurantId, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static final class MenuSnapshot {
+        private final long version;
+        private final String etag;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final Set<Long> menuItemIds;
+
+        MenuSnapshot(long version, String etag, byte[] json, byte[] gzip, Set<Long> menuItemIds) {
+            this.version = version;
+            this.etag = etag;
+            this.json = json;
+            this.gzip = gzip;
+            this.menuItemIds = menuItemIds;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public Set<Long> getMenuItemIds() {
+            return menuItemIds;
+        }
+    }
+}
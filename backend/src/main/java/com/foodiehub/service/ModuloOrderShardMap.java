@@ -0,0 +1,39 @@
+package com.foodiehub.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Places a restaurant on shard {@code restaurantId mod shardCount}, unless it is
+ * pinned to a shard explicitly (for instance to give a very busy restaurant a
+ * shard of its own).
+ */
+public class ModuloOrderShardMap implements OrderShardMap {
+
+    private final int shardCount;
+    private final Map<Long, Integer> pinned;
+
+    public ModuloOrderShardMap(int shardCount, Map<Long, Integer> pinned) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("At least one order shard is required");
+        }
+        pinned.forEach((restaurantId, shard) -> {
+            if (shard < 0 || shard >= shardCount) {
+                throw new IllegalArgumentException("Restaurant " + restaurantId + " is pinned to unknown shard " + shard);
+            }
+        });
+        this.shardCount = shardCount;
+        this.pinned = new HashMap<>(pinned);
+    }
+
+    @Override
+    public int shardFor(long restaurantId) {
+        Integer shard = pinned.get(restaurantId);
+        return shard != null ? shard : (int) Math.floorMod(restaurantId, (long) shardCount);
+    }
+
+    @Override
+    public int getShardCount() {
+        return shardCount;
+    }
+}
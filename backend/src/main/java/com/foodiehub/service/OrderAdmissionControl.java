@@ -0,0 +1,217 @@
+package com.foodiehub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for the order write path. Each user gets a token bucket keyed
+ * by e-mail, and the write path as a whole gets an AIMD concurrency limit: every
+ * call that finishes within {@code admission.target-latency-ms} while the limit
+ * was in use grows it by 1/limit, and a slow or failed call shrinks it by
+ * {@code admission.backoff-ratio} (at most once per target interval). Calls over
+ * either limit are rejected immediately, so a slow database sheds order traffic
+ * instead of tying up every request thread and starving catalogue reads.
+ */
+@Component
+public class OrderAdmissionControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderAdmissionControl.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${admission.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${admission.min-limit:2}")
+    private int minLimit;
+
+    @Value("${admission.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${admission.target-latency-ms:250}")
+    private long targetLatencyMs;
+
+    @Value("${admission.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${admission.user-burst:5}")
+    private double userBurst;
+
+    @Value("${admission.user-orders-per-minute:12}")
+    private double userOrdersPerMinute;
+
+    @Value("${admission.max-tracked-users:100000}")
+    private int maxTrackedUsers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+    private volatile int inFlight;
+    private long lastDecreaseNanos;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private Counter rejectedByUser;
+    private Counter rejectedByLimit;
+
+    @PostConstruct
+    void init() {
+        limit = initialLimit;
+        lastDecreaseNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        rejectedByUser = rejections("user_rate");
+        rejectedByLimit = rejections("concurrency");
+        Gauge.builder("orders.admission.limit", this, control -> control.limit)
+                .description("Current adaptive concurrency limit of the order write path")
+                .register(meterRegistry);
+        Gauge.builder("orders.admission.in_flight", this, control -> control.inFlight)
+                .description("Order writes currently admitted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code call} if both the user's bucket and the concurrency limit admit
+     * it, otherwise throws {@link AdmissionRejectedException} without running it.
+     * Validation failures ({@link IllegalArgumentException}, status conflicts)
+     * count as fast, healthy completions; any other exception counts as overload.
+     */
+    public <T> T call(String userEmail, Supplier<T> call) {
+        checkUserRate(userEmail);
+
+        boolean limitInUse;
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                rejectedByLimit.increment();
+                throw new AdmissionRejectedException("Order service is busy, please retry", false, 1);
+            }
+            inFlight++;
+            limitInUse = inFlight * 2 >= limit;
+        } finally {
+            lock.unlock();
+        }
+
+        long start = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            T result = call.get();
+            overloaded = false;
+            return result;
+        } catch (IllegalArgumentException | OrderStatusConflictException e) {
+            overloaded = false;
+            throw e;
+        } finally {
+            release(System.nanoTime() - start, overloaded, limitInUse);
+        }
+    }
+
+    /**
+     * Takes one token from the user's bucket, for write paths that bound their
+     * own concurrency (the async intake queue).
+     */
+    public void checkUserRate(String userEmail) {
+        if (userEmail == null || userEmail.isBlank()) {
+            return;
+        }
+        if (buckets.size() > maxTrackedUsers) {
+            evictIdleBuckets();
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(userEmail.trim().toLowerCase(Locale.ROOT),
+                k -> new TokenBucket(userBurst, userOrdersPerMinute / 60.0));
+        long waitSeconds = bucket.tryTake();
+        if (waitSeconds > 0) {
+            rejectedByUser.increment();
+            throw new AdmissionRejectedException("Too many orders, please slow down", true, waitSeconds);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    private void release(long latencyNanos, boolean overloaded, boolean limitInUse) {
+        long now = System.nanoTime();
+        long target = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        lock.lock();
+        try {
+            inFlight--;
+            if (overloaded || latencyNanos > target) {
+                // One decrease per congestion episode rather than one per slow call
+                if (now - lastDecreaseNanos > target) {
+                    double previous = limit;
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                    if ((int) previous != (int) limit) {
+                        logger.info("Order admission limit lowered to {} (latency {} ms)",
+                                (int) limit, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+                    }
+                }
+            } else if (limitInUse) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFullAt(now));
+    }
+
+    private Counter rejections(String reason) {
+        return Counter.builder("orders.admission.rejected")
+                .description("Order requests shed before reaching the database")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double capacity, double tokensPerSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        // Returns 0 when a token was taken, otherwise the whole seconds until one is available
+        synchronized long tryTake() {
+            long now = System.nanoTime();
+            refill(now);
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1.0 - tokens) / tokensPerNano / 1_000_000_000.0));
+        }
+
+        synchronized boolean isFullAt(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.foodiehub.service;
+
+import com.foodiehub.model.ArchivedOrder;
+import com.foodiehub.model.ArchivedOrderLine;
+import com.foodiehub.model.Order;
+import com.foodiehub.model.OrderLine;
+import com.foodiehub.model.OrderStatus;
+import com.foodiehub.repository.ArchivedOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves finished (Delivered or Cancelled) orders older than
+ * {@code archive.min-age-days} from {@code orders} into {@code orders_archive}, so
+ * the hot table only holds orders that are still moving. Candidates are walked in
+ * id order, {@code archive.chunk-size} at a time; each chunk is copied and deleted
+ * in its own transaction, with a pause between chunks to leave the primary room
+ * for live traffic. A run stops after {@code archive.max-chunks-per-run} chunks
+ * and the next run resumes after the last archived id.
+ *
+ * <p>Archived orders are read back as plain {@link Order}s for the id and user
+ * history lookups in {@link OrderService}; they can no longer be changed.
+ */
+@Service
+public class OrderArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveService.class);
+
+    private static final List<String> FINISHED_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isTerminal)
+            .map(OrderStatus::getLabel)
+            .toList();
+
+    private static final String ORDER_COLUMNS =
+            "id, menu_item_id, user_name, user_email, price, address, phone_number, status, order_date, " +
+            "delivery_notes, payment_method, payment_status";
+
+    private static final String LINE_COLUMNS = "id, order_id, menu_item_id, quantity, unit_price";
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private MenuItemTagIndex menuItemTagIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.min-age-days:90}")
+    private int minAgeDays;
+
+    @Value("${archive.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${archive.chunk-pause-ms:200}")
+    private long chunkPauseMs;
+
+    @Value("${archive.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private volatile long resumeAfterId;
+    private ScheduledExecutorService scheduler;
+    private Counter archivedOrders;
+
+    @PostConstruct
+    void start() {
+        archivedOrders = Counter.builder("orders.archived")
+                .description("Finished orders moved from orders to orders_archive")
+                .register(meterRegistry);
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-archiver");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::scheduledRun, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs one archival pass and returns the number of orders moved, or -1 when a
+     * pass is already running.
+     */
+    public long archive() {
+        if (!runLock.tryLock()) {
+            return -1;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(minAgeDays));
+            String candidates = "SELECT id FROM orders WHERE id > ? AND status IN (" + placeholders(FINISHED_STATUSES.size())
+                    + ") AND order_date < ? ORDER BY id LIMIT ?";
+            long moved = 0;
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                List<Object> args = new ArrayList<>();
+                args.add(resumeAfterId);
+                args.addAll(FINISHED_STATUSES);
+                args.add(cutoff);
+                args.add(chunkSize);
+                List<Long> ids = jdbcTemplate.queryForList(candidates, Long.class, args.toArray());
+                if (ids.isEmpty()) {
+                    resumeAfterId = 0;
+                    break;
+                }
+                Integer count = transactionTemplate.execute(tx -> moveChunk(ids));
+                moved += count;
+                archivedOrders.increment(count);
+                // The next chunk, or the next run if this one stops here, starts after this id
+                resumeAfterId = ids.get(ids.size() - 1);
+                if (ids.size() < chunkSize) {
+                    resumeAfterId = 0;
+                    break;
+                }
+                try {
+                    Thread.sleep(chunkPauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            logger.info("Archived {} finished orders placed before {} in {} ms",
+                    moved, cutoff, System.currentTimeMillis() - started);
+            return moved;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Order> findById(Long id) {
+        return archivedOrderRepository.findWithLinesById(id).map(archived -> toOrder(archived, true));
+    }
+
+    // Newest first, like the limited OrderRepository finders
+    @Transactional(readOnly = true)
+    public List<Order> findByUserName(String userName, Integer limit) {
+        return toOrders(limit == null
+                ? archivedOrderRepository.findByUserNameOrderByOrderDateDesc(userName)
+                : archivedOrderRepository.findByUserNameOrderByOrderDateDesc(userName, Limit.of(limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findByUserEmail(String userEmail, Integer limit) {
+        return toOrders(limit == null
+                ? archivedOrderRepository.findByUserEmailOrderByOrderDateDesc(userEmail)
+                : archivedOrderRepository.findByUserEmailOrderByOrderDateDesc(userEmail, Limit.of(limit)));
+    }
+
+    /**
+     * Whether an order placed at {@code orderDate} is old enough to have been
+     * archived; archived orders are all older than any order for which this is false.
+     */
+    public boolean couldBeArchived(LocalDateTime orderDate) {
+        return orderDate.isBefore(LocalDateTime.now().minusDays(minAgeDays));
+    }
+
+    private void scheduledRun() {
+        try {
+            archive();
+        } catch (Exception e) {
+            logger.error("Order archival failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // Copies the chunk, then deletes exactly what was copied; lines follow their orders
+    private int moveChunk(List<Long> ids) {
+        String in = placeholders(ids.size());
+        String finished = placeholders(FINISHED_STATUSES.size());
+        List<Object> orderArgs = new ArrayList<>();
+        orderArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+        orderArgs.addAll(ids);
+        orderArgs.addAll(FINISHED_STATUSES);
+        int copied = jdbcTemplate.update(
+                "INSERT INTO orders_archive (" + ORDER_COLUMNS + ", archived_at) SELECT " + ORDER_COLUMNS + ", ? " +
+                "FROM orders WHERE id IN (" + in + ") AND status IN (" + finished + ")",
+                orderArgs.toArray());
+        String archivedIds = "SELECT id FROM orders_archive WHERE id IN (" + in + ")";
+        jdbcTemplate.update(
+                "INSERT INTO order_lines_archive (" + LINE_COLUMNS + ") SELECT " + LINE_COLUMNS +
+                " FROM order_lines WHERE order_id IN (" + archivedIds + ")",
+                ids.toArray());
+        jdbcTemplate.update("DELETE FROM order_lines WHERE order_id IN (" + archivedIds + ")", ids.toArray());
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM orders WHERE id IN (" + in + ") AND status IN (" + finished + ")",
+                orderArgs.subList(1, orderArgs.size()).toArray());
+        if (deleted != copied) {
+            throw new IllegalStateException("Archived " + copied + " orders but removed " + deleted + "; rolling back chunk");
+        }
+        return copied;
+    }
+
+    private List<Order> toOrders(List<ArchivedOrder> archived) {
+        List<Order> orders = new ArrayList<>(archived.size());
+        for (ArchivedOrder order : archived) {
+            orders.add(toOrder(order, false));
+        }
+        return orders;
+    }
+
+    // Lists leave lines unset, as the primary order lists do, so they are not loaded per order
+    private Order toOrder(ArchivedOrder archived, boolean withLines) {
+        Order order = new Order();
+        order.setId(archived.getId());
+        order.setMenuItem(menuItemTagIndex.resolve(archived.getMenuItemId()));
+        order.setUserName(archived.getUserName());
+        order.setUserEmail(archived.getUserEmail());
+        order.setPrice(archived.getPrice());
+        order.setAddress(archived.getAddress());
+        order.setPhoneNumber(archived.getPhoneNumber());
+        order.setStatus(archived.getStatus());
+        order.setOrderDate(archived.getOrderDate());
+        order.setDeliveryNotes(archived.getDeliveryNotes());
+        order.setPaymentMethod(archived.getPaymentMethod());
+        order.setPaymentStatus(archived.getPaymentStatus());
+        if (!withLines) {
+            order.setLines(null);
+            return order;
+        }
+        for (ArchivedOrderLine archivedLine : archived.getLines()) {
+            OrderLine line = new OrderLine();
+            line.setId(archivedLine.getId());
+            line.setMenuItem(menuItemTagIndex.resolve(archivedLine.getMenuItemId()));
+            line.setQuantity(archivedLine.getQuantity());
+            line.setUnitPrice(archivedLine.getUnitPrice());
+            order.addLine(line);
+        }
+        return order;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,261 @@
+package com.foodiehub.service;
+
+import com.foodiehub.dto.OrderStatusEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans order status changes out to Server-Sent Event subscribers, per order and
+ * per user. Publishing never writes to a socket: each subscriber has a small
+ * bounded queue drained by a shared dispatch pool, and a subscriber whose queue
+ * overflows (a client that stopped reading) is disconnected so it cannot hold
+ * back anyone else. Each write runs on its own virtual thread with a deadline;
+ * a dispatch thread waits at most that long before disconnecting the
+ * subscriber, so a stalled socket never pins the pool. Events are delivered
+ * only after the change has committed.
+ */
+@Service
+public class OrderEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+
+    private static final String EVENT_NAME = "order-status";
+
+    @Value("${events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${events.subscriber-queue:32}")
+    private int subscriberQueue;
+
+    @Value("${events.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    @Value("${events.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    @Value("${events.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ExecutorService dispatcher;
+    private ExecutorService writer;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIds = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-events-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A write blocked on a full socket parks only its own virtual thread
+        writer = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-events-write-", 0).factory());
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Comments keep proxies from idling the stream out and surface dead sockets
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        writer.shutdownNow();
+        topics.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+        topics.clear();
+    }
+
+    public SseEmitter subscribeToOrder(Long orderId, OrderStatusEvent current) {
+        Subscriber subscriber = subscribe(orderKey(orderId));
+        if (current != null) {
+            subscriber.enqueue(current);
+        }
+        return subscriber.emitter;
+    }
+
+    public SseEmitter subscribeToUser(String userName) {
+        return subscribe(userKey(userName)).emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusEvent event) {
+        publish(orderKey(event.getOrderId()), event);
+        if (event.getUserName() != null) {
+            publish(userKey(event.getUserName()), event);
+        }
+    }
+
+    private void publish(String key, OrderStatusEvent event) {
+        Set<Subscriber> subscribers = topics.get(key);
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    private Subscriber subscribe(String key) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(key, emitter);
+        topics.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        return subscriber;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        topics.computeIfPresent(subscriber.key, (k, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void sendHeartbeats() {
+        List<Subscriber> all = new ArrayList<>();
+        topics.values().forEach(all::addAll);
+        for (Subscriber subscriber : all) {
+            dispatcher.execute(() -> {
+                try {
+                    subscriber.send(SseEmitter.event().comment("keep-alive"));
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.drop();
+                }
+            });
+        }
+    }
+
+    private static String orderKey(Long orderId) {
+        return "order:" + orderId;
+    }
+
+    private static String userKey(String userName) {
+        return "user:" + userName;
+    }
+
+    private final class Subscriber {
+        private final String key;
+        private final SseEmitter emitter;
+        private final Queue<OrderStatusEvent> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final ReentrantLock writeLock = new ReentrantLock();
+
+        private Subscriber(String key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(subscriberQueue);
+        }
+
+        private void enqueue(OrderStatusEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                logger.warn("Disconnecting slow order event subscriber on {}", key);
+                drop();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                OrderStatusEvent event;
+                while ((event = pending.poll()) != null) {
+                    send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .id(String.valueOf(event.getOrderId()))
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // An event may have landed between the last poll and clearing the flag
+            if (!pending.isEmpty() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        // Hands the write to a virtual thread and gives up on the subscriber once it passes the deadline
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            Future<?> write = writer.submit(() -> {
+                writeLock.lock();
+                try {
+                    emitter.send(event);
+                    return null;
+                } finally {
+                    writeLock.unlock();
+                }
+            });
+            try {
+                write.get(writeTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                write.cancel(true);
+                logger.warn("Disconnecting order event subscriber on {}: write took over {} ms", key, writeTimeoutMs);
+                throw new IOException("Write deadline exceeded", e);
+            } catch (InterruptedException e) {
+                write.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IllegalStateException illegalState) {
+                    throw illegalState;
+                }
+                throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            }
+        }
+
+        private void drop() {
+            unsubscribe(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.foodiehub.service;
+
+import com.foodiehub.dto.OrderIntakeStatus;
+import com.foodiehub.dto.OrderStatusEvent;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind order intake. Orders are validated against the in-memory menu
+ * view, queued, and acknowledged immediately with an intake id. A single drainer
+ * thread commits them in groups of up to {@code intake.max-batch} orders or
+ * {@code intake.max-wait-ms} milliseconds, one transaction and one batched
+ * insert per group, so throughput follows batch size rather than connections.
+ */
+@Service
+public class OrderIntakeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIntakeService.class);
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (menu_item_id, user_name, user_email, price, address, phone_number, status, " +
+            "order_date, delivery_notes, payment_method, payment_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private MenuItemTagIndex menuItemTagIndex;
+
+    @Autowired
+    private TrendingItemsService trendingItemsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    private ShardedOrderStore shardedOrderStore;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Value("${intake.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${intake.max-batch:200}")
+    private int maxBatch;
+
+    @Value("${intake.max-wait-ms:20}")
+    private long maxWaitMs;
+
+    @Value("${intake.status-retention:100000}")
+    private int statusRetention;
+
+    private BlockingQueue<PendingOrder> queue;
+    private Map<String, OrderIntakeStatus> statuses;
+    private Thread drainer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        statuses = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OrderIntakeStatus> eldest) {
+                return size() > statusRetention;
+            }
+        });
+        running = true;
+        drainer = new Thread(this::drainLoop, "order-intake-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // No interrupt: the drainer notices within its poll timeout and finishes the group it holds,
+        // whereas an interrupt landing inside a commit would fail that group's JDBC work
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+        // Flush whatever was accepted before shutdown
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commitDrained(remaining);
+        }
+    }
+
+    /**
+     * Validates and queues an order. Returns the intake status, or empty when the
+     * queue is full and the caller should back off.
+     */
+    public Optional<OrderIntakeStatus> submit(Order order) {
+        if (order.getMenuItem() == null || order.getMenuItem().getId() == null) {
+            throw new IllegalArgumentException("MenuItem ID is required");
+        }
+        Long menuItemId = order.getMenuItem().getId();
+        MenuItem menuItem = menuItemTagIndex.find(menuItemId)
+                .orElseThrow(() -> new IllegalArgumentException("MenuItem with ID " + menuItemId + " not found"));
+        order.setMenuItem(menuItem);
+        if (shardedOrderStore != null) {
+            // Reject orders the drainer could not place before acknowledging them
+            shardedOrderStore.shardFor(menuItem);
+        }
+        requireField(order.getUserName(), "userName");
+        requireField(order.getUserEmail(), "userEmail");
+        requireField(order.getAddress(), "address");
+        requireField(order.getPaymentMethod(), "paymentMethod");
+        if (order.getPrice() == null) {
+            order.setPrice(menuItem.getPrice());
+        }
+        if (order.getStatus() == null) {
+            order.setStatus("Pending");
+        }
+        if (order.getOrderDate() == null) {
+            order.setOrderDate(LocalDateTime.now());
+        }
+
+        String intakeId = UUID.randomUUID().toString();
+        OrderIntakeStatus status = new OrderIntakeStatus(intakeId, OrderIntakeStatus.QUEUED, null, null);
+        statuses.put(intakeId, status);
+        if (!queue.offer(new PendingOrder(intakeId, order, menuItem))) {
+            statuses.remove(intakeId);
+            return Optional.empty();
+        }
+        return Optional.of(status);
+    }
+
+    public Optional<OrderIntakeStatus> getStatus(String intakeId) {
+        return Optional.ofNullable(statuses.get(intakeId));
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<PendingOrder> group = new ArrayList<>(maxBatch);
+        boolean interrupted = false;
+        while (running && !interrupted) {
+            try {
+                collect(group);
+            } catch (InterruptedException e) {
+                // Orders already taken off the queue were acknowledged; commit them before leaving
+                interrupted = true;
+            }
+            if (!group.isEmpty()) {
+                commitDrained(group);
+                group.clear();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Waits for a first order, then takes more until the group is full or max-wait-ms has passed
+    private void collect(List<PendingOrder> group) throws InterruptedException {
+        PendingOrder first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        group.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (group.size() < maxBatch) {
+            long remaining = deadline - System.nanoTime();
+            if (queue.drainTo(group, maxBatch - group.size()) == 0) {
+                if (remaining <= 0) {
+                    break;
+                }
+                PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                group.add(next);
+            }
+        }
+    }
+
+    // commit() settles every order it reaches; if it fails outright, nothing acknowledged may stay QUEUED
+    private void commitDrained(List<PendingOrder> group) {
+        try {
+            commit(group);
+        } catch (Exception e) {
+            logger.error("Order intake drainer failed: {}", e.getMessage(), e);
+            for (PendingOrder pending : group) {
+                statuses.computeIfPresent(pending.intakeId, (intakeId, status) ->
+                        OrderIntakeStatus.QUEUED.equals(status.getState())
+                                ? new OrderIntakeStatus(intakeId, OrderIntakeStatus.FAILED, null, e.getMessage())
+                                : status);
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> group) {
+        if (shardedOrderStore == null) {
+            commitGroup(group);
+            return;
+        }
+        // One batch per shard, so a failing shard cannot roll back or duplicate another shard's rows
+        Map<Integer, List<PendingOrder>> byShard = new TreeMap<>();
+        for (PendingOrder pending : group) {
+            byShard.computeIfAbsent(shardedOrderStore.shardFor(pending.menuItem), k -> new ArrayList<>()).add(pending);
+        }
+        byShard.values().forEach(this::commitGroup);
+    }
+
+    private void commitGroup(List<PendingOrder> group) {
+        try {
+            List<Long> ids = persist(group);
+            for (int i = 0; i < group.size(); i++) {
+                markCommitted(group.get(i), ids.get(i));
+            }
+            logger.debug("Committed {} queued orders in one batch", group.size());
+        } catch (Exception batchFailure) {
+            // Isolate the bad rows so one invalid order does not fail the whole group
+            logger.warn("Batch of {} queued orders failed ({}); retrying individually",
+                    group.size(), batchFailure.getMessage());
+            for (PendingOrder pending : group) {
+                try {
+                    List<Long> ids = persist(List.of(pending));
+                    markCommitted(pending, ids.get(0));
+                } catch (Exception e) {
+                    logger.error("Queued order {} failed: {}", pending.intakeId, e.getMessage());
+                    statuses.put(pending.intakeId, new OrderIntakeStatus(
+                            pending.intakeId, OrderIntakeStatus.FAILED, null, e.getMessage()));
+                }
+            }
+        }
+    }
+
+    private List<Long> persist(List<PendingOrder> group) {
+        List<Order> orders = new ArrayList<>(group.size());
+        for (PendingOrder pending : group) {
+            orders.add(pending.order);
+        }
+        if (shardedOrderStore != null) {
+            List<Long> ids = shardedOrderStore.insertBatch(orders);
+            salesRollupService.recordCreated(orders);
+            return ids;
+        }
+        // Rollups commit with the batch, so a failed batch leaves no trace in them either
+        return transactionTemplate.execute(tx -> {
+            List<Long> ids = insertBatch(group);
+            salesRollupService.recordCreated(orders);
+            return ids;
+        });
+    }
+
+    private List<Long> insertBatch(List<PendingOrder> group) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ORDER, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Order order = group.get(i).order;
+                        ps.setLong(1, group.get(i).menuItem.getId());
+                        ps.setString(2, order.getUserName());
+                        ps.setString(3, order.getUserEmail());
+                        ps.setDouble(4, order.getPrice());
+                        ps.setString(5, order.getAddress());
+                        ps.setString(6, order.getPhoneNumber());
+                        ps.setString(7, order.getStatus());
+                        ps.setTimestamp(8, Timestamp.valueOf(order.getOrderDate()));
+                        ps.setString(9, order.getDeliveryNotes());
+                        ps.setString(10, order.getPaymentMethod());
+                        ps.setString(11, order.getPaymentStatus());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return group.size();
+                    }
+                },
+                keys);
+        List<Long> ids = new ArrayList<>(group.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private void markCommitted(PendingOrder pending, Long orderId) {
+        statuses.put(pending.intakeId, new OrderIntakeStatus(pending.intakeId, OrderIntakeStatus.COMMITTED, orderId, null));
+        trendingItemsService.recordOrder(pending.menuItem, 1);
+        eventPublisher.publishEvent(new OrderStatusEvent(orderId, pending.order.getUserName(),
+                pending.order.getStatus(), pending.order.getPaymentStatus(), LocalDateTime.now()));
+    }
+
+    private static void requireField(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+    }
+
+    private static final class PendingOrder {
+        private final String intakeId;
+        private final Order order;
+        private final MenuItem menuItem;
+
+        private PendingOrder(String intakeId, Order order, MenuItem menuItem) {
+            this.intakeId = intakeId;
+            this.order = order;
+            this.menuItem = menuItem;
+        }
+    }
+}
@@ -1,51 +1,234 @@
 package com.foodiehub.service;
 
+import com.foodiehub.config.ReplicaRoutingDataSource;
+import com.foodiehub.dto.CartOrderRequest;
+import com.foodiehub.dto.CursorPage;
+import com.foodiehub.dto.OrderStatusEvent;
 import com.foodiehub.model.MenuItem;
 import com.foodiehub.model.Order;
+import com.foodiehub.model.OrderLine;
+import com.foodiehub.model.OrderStatus;
 import com.foodiehub.repository.MenuItemRepository;
 import com.foodiehub.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
     
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
     
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    
+    private static final int MAX_RECENT_LIMIT = 500;
+    
+    private static final Comparator<Order> OLDEST_FIRST = Comparator.comparing(Order::getOrderDate);
+    private static final Comparator<Order> NEWEST_FIRST = OLDEST_FIRST.reversed();
+    
     @Autowired
     private OrderRepository orderRepository;
     
     @Autowired
     private MenuItemRepository menuItemRepository;
     
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    @Autowired
+    private TrendingItemsService trendingItemsService;
+    
+    // Present when sharding.enabled; new orders then live on the shards, older ones stay reachable by id on the primary
+    @Autowired(required = false)
+    private ShardedOrderStore shardedOrderStore;
+    
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    
+    @Autowired
+    private SalesRollupService salesRollupService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Order> getOrdersPage(String cursor, Integer size) {
+        Long afterId = CursorPage.decodeCursor(cursor);
+        int pageSize = CursorPage.clampPageSize(size);
+        List<Order> rows = new ArrayList<>(orderRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)));
+        // Sharded ids all sort after primary ones, so shard rows continue the page once the primary runs out
+        if (shardedOrderStore != null && rows.size() <= pageSize) {
+            rows.addAll(shardedOrderStore.findPageAfter(afterId, pageSize + 1 - rows.size()));
+        }
+        return CursorPage.of(rows, pageSize, Order::getId);
+    }
+    
+    /**
+     * Writes matching orders to {@code out} as newline-delimited JSON while the
+     * rows are read: the primary's first, then each shard's. Each primary order
+     * is detached once written so the persistence context, and therefore the
+     * heap, does not grow with the export size.
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDateTime from, LocalDateTime to, String status, OutputStream out) {
+        ObjectWriter writer = objectMapper.writerFor(Order.class);
+        long[] count = {0};
+        Consumer<Order> export = order -> {
+            try {
+                out.write(writer.writeValueAsBytes(order));
+                out.write('\n');
+                if (++count[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try (Stream<Order> orders = orderRepository.streamForExport(from, to, status)) {
+            for (Order order : (Iterable<Order>) orders::iterator) {
+                export.accept(order);
+                entityManager.detach(order);
+            }
+        }
+        if (shardedOrderStore != null) {
+            shardedOrderStore.forEachForExport(from, to, status, export);
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("Exported {} orders", count[0]);
+        return count[0];
     }
     
+    // Read-your-writes: clients poll an order right after creating or updating it
     public Optional<Order> getOrderById(Long id) {
-        return orderRepository.findById(id);
+        if (onShards(id)) {
+            return shardedOrderStore.findById(id);
+        }
+        Optional<Order> order = ReplicaRoutingDataSource.onPrimary(() -> orderRepository.findWithLinesById(id));
+        return order.isPresent() ? order : orderArchiveService.findById(id);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersByUserName(String userName, Integer limit) {
+        List<Order> recent = limit == null
+                ? orderRepository.findByUserName(userName)
+                : orderRepository.findByUserNameOrderByOrderDateDesc(userName, recentLimit(limit));
+        recent = withSharded(recent, limit, NEWEST_FIRST, max -> shardedOrderStore.findByUserName(userName, max));
+        return withArchived(recent, limit, max -> orderArchiveService.findByUserName(userName, max));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersByUserEmail(String userEmail, Integer limit) {
+        List<Order> recent = limit == null
+                ? orderRepository.findByUserEmail(userEmail)
+                : orderRepository.findByUserEmailOrderByOrderDateDesc(userEmail, recentLimit(limit));
+        recent = withSharded(recent, limit, NEWEST_FIRST, max -> shardedOrderStore.findByUserEmail(userEmail, max));
+        return withArchived(recent, limit, max -> orderArchiveService.findByUserEmail(userEmail, max));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersByStatus(String status, Integer limit) {
+        List<Order> primary = limit == null
+                ? orderRepository.findByStatus(status)
+                : orderRepository.findByStatusOrderByOrderDateAsc(status, recentLimit(limit));
+        return withSharded(primary, limit, OLDEST_FIRST, max -> shardedOrderStore.findByStatus(status, max));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersByMenuItem(Long menuItemId, Integer limit) {
+        List<Order> primary = limit == null
+                ? orderRepository.findByMenuItemId(menuItemId)
+                : orderRepository.findByMenuItemIdOrderByOrderDateDesc(menuItemId, recentLimit(limit));
+        return withSharded(primary, limit, NEWEST_FIRST, max -> shardedOrderStore.findByMenuItemId(menuItemId, max));
+    }
+    
+    /**
+     * Adds the shards' matches to the primary's. Orders placed before sharding was
+     * enabled stay on the primary, so a sharded lookup still reads both; a limited
+     * one merges the two in {@code order} and keeps the first {@code limit}.
+     */
+    private List<Order> withSharded(List<Order> primary, Integer limit, Comparator<Order> order,
+                                    Function<Integer, List<Order>> sharded) {
+        if (shardedOrderStore == null) {
+            return primary;
+        }
+        List<Order> merged = new ArrayList<>(primary);
+        if (limit == null) {
+            merged.addAll(sharded.apply(null));
+            return merged;
+        }
+        int max = clampRecent(limit);
+        merged.addAll(sharded.apply(max));
+        merged.sort(order);
+        return merged.size() > max ? new ArrayList<>(merged.subList(0, max)) : merged;
     }
     
-    public List<Order> getOrdersByUserName(String userName) {
-        return orderRepository.findByUserName(userName);
+    /**
+     * Adds a user's archived orders to their hot ones. A limited lookup skips the
+     * archive when the hot rows already fill the limit with orders too recent to
+     * have been archived, since every archived order would sort after them.
+     */
+    private List<Order> withArchived(List<Order> recent, Integer limit, Function<Integer, List<Order>> archived) {
+        if (limit == null) {
+            List<Order> all = new ArrayList<>(recent);
+            all.addAll(archived.apply(null));
+            return all;
+        }
+        int max = clampRecent(limit);
+        if (recent.size() >= max && !orderArchiveService.couldBeArchived(recent.get(recent.size() - 1).getOrderDate())) {
+            return recent;
+        }
+        List<Order> merged = new ArrayList<>(recent);
+        merged.addAll(archived.apply(max));
+        merged.sort(NEWEST_FIRST);
+        return merged.size() > max ? new ArrayList<>(merged.subList(0, max)) : merged;
     }
     
-    public List<Order> getOrdersByUserEmail(String userEmail) {
-        return orderRepository.findByUserEmail(userEmail);
+    // Ids the primary issued before sharding was enabled stay on the primary, or in its archive
+    private boolean onShards(Long id) {
+        return shardedOrderStore != null && shardedOrderStore.isShardedId(id);
     }
     
-    public List<Order> getOrdersByStatus(String status) {
-        return orderRepository.findByStatus(status);
+    private static Limit recentLimit(int limit) {
+        return Limit.of(clampRecent(limit));
     }
     
-    public List<Order> getOrdersByMenuItem(Long menuItemId) {
-        return orderRepository.findByMenuItemId(menuItemId);
+    private static int clampRecent(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RECENT_LIMIT));
     }
     
+    @Transactional
     public Order createOrder(Order order) {
         // Validate that menuItem exists
         if (order.getMenuItem() == null) {
@@ -72,8 +255,10 @@ public class OrderService {
             order.setMenuItem(menuItem);
             logger.info("Menu item found, proceeding with order creation");
             
-            Order savedOrder = orderRepository.save(order);
+            Order savedOrder = shardedOrderStore != null ? shardedOrderStore.insert(order) : orderRepository.save(order);
             logger.info("Order created successfully with ID: {}", savedOrder.getId());
+            salesRollupService.recordCreated(List.of(savedOrder));
+            trendingItemsService.recordOrder(menuItem, 1);
             return savedOrder;
         } catch (Exception e) {
             logger.error("Error creating order: {}", e.getMessage(), e);
@@ -81,37 +266,230 @@ public class OrderService {
         }
     }
     
+    /**
+     * Places a whole cart as one order in a single transaction. All menu items
+     * are resolved with one query and the lines are flushed as one JDBC batch.
+     * Every item must come from the same restaurant.
+     */
+    @Transactional
+    public Order createCartOrder(CartOrderRequest request) {
+        List<CartOrderRequest.CartItem> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            logger.error("Cart order creation failed: no items");
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        
+        Set<Long> menuItemIds = new LinkedHashSet<>();
+        for (CartOrderRequest.CartItem item : items) {
+            if (item.getMenuItemId() == null) {
+                throw new IllegalArgumentException("MenuItem ID is required");
+            }
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for MenuItem " + item.getMenuItemId());
+            }
+            menuItemIds.add(item.getMenuItemId());
+        }
+        
+        Map<Long, MenuItem> menuItems = menuItemRepository.findAllById(menuItemIds).stream()
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+        for (Long menuItemId : menuItemIds) {
+            if (!menuItems.containsKey(menuItemId)) {
+                logger.error("Cart order creation failed: MenuItem with ID {} not found", menuItemId);
+                throw new IllegalArgumentException("MenuItem with ID " + menuItemId + " not found");
+            }
+        }
+        // An order belongs to one restaurant: its shard, its status and its sales rollups all follow it
+        Long restaurantId = restaurantIdOf(menuItems.get(items.get(0).getMenuItemId()));
+        for (MenuItem menuItem : menuItems.values()) {
+            if (!Objects.equals(restaurantIdOf(menuItem), restaurantId)) {
+                logger.error("Cart order creation failed: items from more than one restaurant");
+                throw new IllegalArgumentException("All items in a cart must come from the same restaurant");
+            }
+        }
+        
+        Order order = new Order();
+        order.setUserName(request.getUserName());
+        order.setUserEmail(request.getUserEmail());
+        order.setAddress(request.getAddress());
+        order.setPhoneNumber(request.getPhoneNumber());
+        order.setDeliveryNotes(request.getDeliveryNotes());
+        order.setPaymentMethod(request.getPaymentMethod());
+        // The first line doubles as the order's menu item for existing per-item queries
+        order.setMenuItem(menuItems.get(items.get(0).getMenuItemId()));
+        
+        double total = 0;
+        for (CartOrderRequest.CartItem item : items) {
+            MenuItem menuItem = menuItems.get(item.getMenuItemId());
+            OrderLine line = new OrderLine();
+            line.setMenuItem(menuItem);
+            line.setQuantity(item.getQuantity());
+            line.setUnitPrice(menuItem.getPrice());
+            order.addLine(line);
+            total += menuItem.getPrice() * item.getQuantity();
+        }
+        order.setPrice(total);
+        
+        Order savedOrder = shardedOrderStore != null ? shardedOrderStore.insert(order) : orderRepository.save(order);
+        logger.info("Cart order created successfully with ID: {} ({} lines)", savedOrder.getId(), items.size());
+        salesRollupService.recordCreated(List.of(savedOrder));
+        for (OrderLine line : savedOrder.getLines()) {
+            trendingItemsService.recordOrder(line.getMenuItem(), line.getQuantity());
+        }
+        return savedOrder;
+    }
+    
+    private static Long restaurantIdOf(MenuItem menuItem) {
+        return menuItem.getRestaurant() != null ? menuItem.getRestaurant().getId() : null;
+    }
+    
+    /**
+     * Applies the non-null fields of {@code orderDetails}. The fields are written
+     * with a version check and a status change goes through the same
+     * compare-and-set as {@link #updateOrderStatus}, pinned to the status read
+     * here, so a concurrent update makes this one fail with
+     * {@link OrderStatusConflictException} instead of being overwritten.
+     */
+    @Transactional
     public Optional<Order> updateOrder(Long id, Order orderDetails) {
-        return orderRepository.findById(id).map(order -> {
+        Optional<Order> existing = onShards(id) ? shardedOrderStore.findById(id) : orderRepository.findWithLinesById(id);
+        return existing.map(order -> {
+            SalesRollupService.Contribution previousSales = SalesRollupService.Contribution.of(order);
+            String previousStatus = order.getStatus();
+            String previousPaymentStatus = order.getPaymentStatus();
+            // Order() defaults status to Pending, so a body without a status deserializes as Pending;
+            // nothing may move back to Pending, so treat it as "no change" rather than a conflict
+            OrderStatus target = null;
+            if (orderDetails.getStatus() != null && !orderDetails.getStatus().equals(previousStatus)) {
+                OrderStatus requested = OrderStatus.fromLabel(orderDetails.getStatus());
+                if (requested != OrderStatus.PENDING) {
+                    checkTransition(previousStatus, requested);
+                    target = requested;
+                }
+            }
             // Update only non-null fields from orderDetails to order
             if (orderDetails.getUserName() != null) order.setUserName(orderDetails.getUserName());
             if (orderDetails.getUserEmail() != null) order.setUserEmail(orderDetails.getUserEmail());
             if (orderDetails.getPrice() != null) order.setPrice(orderDetails.getPrice());
             if (orderDetails.getAddress() != null) order.setAddress(orderDetails.getAddress());
             if (orderDetails.getPhoneNumber() != null) order.setPhoneNumber(orderDetails.getPhoneNumber());
-            if (orderDetails.getStatus() != null) order.setStatus(orderDetails.getStatus());
             if (orderDetails.getDeliveryNotes() != null) order.setDeliveryNotes(orderDetails.getDeliveryNotes());
             if (orderDetails.getPaymentMethod() != null) order.setPaymentMethod(orderDetails.getPaymentMethod());
             if (orderDetails.getPaymentStatus() != null) order.setPaymentStatus(orderDetails.getPaymentStatus());
             
-            return orderRepository.save(order);
+            Order saved;
+            if (onShards(id)) {
+                // Shard writes are outside this transaction, so fields and status go in one conditional statement
+                if (target != null) {
+                    order.setStatus(target.getLabel());
+                }
+                if (!shardedOrderStore.update(order, previousStatus)) {
+                    throw concurrentUpdate(id);
+                }
+                saved = order;
+            } else {
+                try {
+                    saved = orderRepository.saveAndFlush(order);
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    throw concurrentUpdate(id);
+                }
+                if (target != null) {
+                    transitionPinned(id, previousStatus, target);
+                    // The compare-and-set cleared the persistence context; read back the updated row
+                    saved = orderRepository.findWithLinesById(id).orElseThrow(() -> concurrentUpdate(id));
+                }
+            }
+            salesRollupService.recordChanged(previousSales, saved);
+            if (!saved.getStatus().equals(previousStatus)
+                    || !Objects.equals(saved.getPaymentStatus(), previousPaymentStatus)) {
+                publishStatusChange(saved);
+            }
+            return saved;
         });
     }
     
+    private void transitionPinned(Long id, String previousStatus, OrderStatus target) {
+        if (orderRepository.transitionStatus(id, List.of(previousStatus), target.getLabel()) == 0) {
+            throw concurrentUpdate(id);
+        }
+    }
+    
+    private static OrderStatusConflictException concurrentUpdate(Long id) {
+        return new OrderStatusConflictException("Order " + id + " was changed by another request; reload it and retry");
+    }
+    
+    @Transactional
     public boolean deleteOrder(Long id) {
-        return orderRepository.findById(id).map(order -> {
+        if (onShards(id)) {
+            return shardedOrderStore.findById(id).map(order -> {
+                boolean deleted = shardedOrderStore.delete(id);
+                if (deleted) {
+                    salesRollupService.recordDeleted(order);
+                }
+                return deleted;
+            }).orElse(false);
+        }
+        return orderRepository.findWithLinesById(id).map(order -> {
             orderRepository.delete(order);
+            salesRollupService.recordDeleted(order);
             return true;
         }).orElse(false);
     }
     
+    /**
+     * Moves an order to {@code status} with a single conditional UPDATE that only
+     * matches while the order is still in the status read just before, and only if
+     * that status may legally move to {@code status}. Returns null when the order
+     * does not exist and throws {@link OrderStatusConflictException} when the
+     * transition is illegal or another update got there first.
+     */
+    @Transactional
     public Order updateOrderStatus(Long id, String status) {
-        Optional<Order> orderOpt = orderRepository.findById(id);
-        if (orderOpt.isPresent()) {
-            Order order = orderOpt.get();
-            order.setStatus(status);
-            return orderRepository.save(order);
+        OrderStatus target = OrderStatus.fromLabel(status);
+        String previous = onShards(id) ? shardedOrderStore.findStatusById(id) : orderRepository.findStatusById(id);
+        if (previous == null) {
+            return null;
+        }
+        // Pinning the update to the status just read tells the rollups which status the order left
+        int updated = 0;
+        if (target.predecessorLabels().contains(previous)) {
+            updated = onShards(id)
+                    ? shardedOrderStore.transitionStatus(id, List.of(previous), target.getLabel())
+                    : orderRepository.transitionStatus(id, List.of(previous), target.getLabel());
+        }
+        if (updated == 0) {
+            String current = onShards(id) ? shardedOrderStore.findStatusById(id) : orderRepository.findStatusById(id);
+            if (current == null) {
+                return null;
+            }
+            logger.warn("Rejected status change of order {} from {} to {}", id, current, target.getLabel());
+            throw new OrderStatusConflictException(
+                    "Cannot change order " + id + " from " + current + " to " + target.getLabel());
+        }
+        logger.info("Order {} moved from {} to {}", id, previous, target.getLabel());
+        Optional<Order> moved = onShards(id) ? shardedOrderStore.findById(id) : orderRepository.findWithLinesById(id);
+        Order order = moved.orElse(null);
+        if (order != null) {
+            salesRollupService.recordStatusChanged(order, previous);
+            publishStatusChange(order);
+        }
+        return order;
+    }
+    
+    // Subscribers are notified once the surrounding transaction commits
+    private void publishStatusChange(Order order) {
+        eventPublisher.publishEvent(new OrderStatusEvent(order.getId(), order.getUserName(),
+                order.getStatus(), order.getPaymentStatus(), LocalDateTime.now()));
+    }
+    
+    private void checkTransition(String current, OrderStatus target) {
+        OrderStatus from;
+        try {
+            from = OrderStatus.fromLabel(current);
+        } catch (IllegalArgumentException e) {
+            throw new OrderStatusConflictException("Order has unknown status " + current);
+        }
+        if (!from.canTransitionTo(target)) {
+            throw new OrderStatusConflictException("Cannot change order from " + current + " to " + target.getLabel());
         }
-        return null;
     }
 } 
\ No newline at end of file
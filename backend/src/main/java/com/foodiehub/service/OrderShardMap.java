@@ -0,0 +1,15 @@
+package com.foodiehub.service;
+
+/**
+ * Decides which order shard owns a restaurant's orders. The default is
+ * {@link ModuloOrderShardMap}; declare another bean of this type to place
+ * restaurants differently. Moving a restaurant to another shard does not move
+ * its existing orders, so a replacement map must keep existing placements.
+ */
+public interface OrderShardMap {
+
+    /** Returns the shard index, in {@code [0, shardCount)}, for the restaurant. */
+    int shardFor(long restaurantId);
+
+    int getShardCount();
+}
@@ -0,0 +1,11 @@
+package com.foodiehub.service;
+
+/**
+ * Thrown when a status change is not allowed from the order's current status,
+ * including when a concurrent update moved the order first.
+ */
+public class OrderStatusConflictException extends RuntimeException {
+    public OrderStatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,308 @@
+package com.foodiehub.service;
+
+import com.foodiehub.dto.RestaurantSearchResult;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.RestaurantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bitmap index over restaurant attributes. Every restaurant owns a
+ * slot; each filterable value (cuisine, price range, veg, open) keeps a
+ * {@link BitSet} of the slots that carry it, so any combination of filters is a
+ * handful of AND/OR operations and facet counts are cardinalities of
+ * intersections with the match set.
+ */
+@Component
+public class RestaurantFilterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantFilterIndex.class);
+
+    static final double[] RATING_BUCKETS = {4.5, 4.0, 3.5, 3.0};
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private Restaurant[] rows = new Restaurant[64];
+    private double[] ratings = new double[64];
+
+    // Keys are lower-cased; labels keep the spelling first seen for display
+    private final Map<String, BitSet> byCuisine = new HashMap<>();
+    private final Map<String, BitSet> byPriceRange = new HashMap<>();
+    private final Map<String, String> labels = new HashMap<>();
+    private final BitSet veg = new BitSet();
+    private final BitSet open = new BitSet();
+
+    // First of the ready listeners: ReactiveReadServer binds after it and serves straight from the index
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Restaurant> restaurants = restaurantRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            freeSlots.clear();
+            live.clear();
+            Arrays.fill(rows, null);
+            byCuisine.clear();
+            byPriceRange.clear();
+            labels.clear();
+            veg.clear();
+            open.clear();
+            for (Restaurant restaurant : restaurants) {
+                putLocked(restaurant);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Restaurant filter index built with {} restaurants", restaurants.size());
+    }
+
+    public void put(Restaurant restaurant) {
+        if (restaurant == null || restaurant.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            putLocked(restaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long restaurantId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(restaurantId);
+            if (slot != null) {
+                clearSlot(slot);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // In-memory rows in slot order, for read paths that must not block on the database
+    public List<Restaurant> all() {
+        lock.readLock().lock();
+        try {
+            List<Restaurant> restaurants = new ArrayList<>(live.cardinality());
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                restaurants.add(rows[slot]);
+            }
+            return restaurants;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Restaurant> find(Long restaurantId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotById.get(restaurantId);
+            return slot != null ? Optional.of(rows[slot]) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RestaurantSearchResult search(Collection<String> cuisines, Collection<String> priceRanges,
+                                         Double minRating, Boolean isVeg, Boolean isOpen) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) live.clone();
+            if (cuisines != null && !cuisines.isEmpty()) {
+                matches.and(union(byCuisine, cuisines));
+            }
+            if (priceRanges != null && !priceRanges.isEmpty()) {
+                matches.and(union(byPriceRange, priceRanges));
+            }
+            if (isVeg != null) {
+                applyFlag(matches, veg, isVeg);
+            }
+            if (isOpen != null) {
+                applyFlag(matches, open, isOpen);
+            }
+            if (minRating != null) {
+                for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                    if (ratings[slot] < minRating) {
+                        matches.clear(slot);
+                    }
+                }
+            }
+
+            List<Restaurant> restaurants = new ArrayList<>(matches.cardinality());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                restaurants.add(rows[slot]);
+            }
+            return new RestaurantSearchResult(restaurants, restaurants.size(), facets(matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Map<String, Integer>> facets(BitSet matches) {
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        facets.put("cuisine", valueCounts(byCuisine, matches));
+        facets.put("priceRange", valueCounts(byPriceRange, matches));
+        facets.put("isVeg", flagCounts(veg, matches));
+        facets.put("isOpen", flagCounts(open, matches));
+
+        Map<String, Integer> ratingCounts = new LinkedHashMap<>();
+        for (double bucket : RATING_BUCKETS) {
+            int count = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                if (ratings[slot] >= bucket) {
+                    count++;
+                }
+            }
+            ratingCounts.put(bucket + "+", count);
+        }
+        facets.put("rating", ratingCounts);
+        return facets;
+    }
+
+    private Map<String, Integer> valueCounts(Map<String, BitSet> postings, BitSet matches) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+            BitSet intersection = (BitSet) entry.getValue().clone();
+            intersection.and(matches);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(labels.get(entry.getKey()), count);
+            }
+        }
+        return counts;
+    }
+
+    private Map<String, Integer> flagCounts(BitSet flag, BitSet matches) {
+        BitSet intersection = (BitSet) flag.clone();
+        intersection.and(matches);
+        int trueCount = intersection.cardinality();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("true", trueCount);
+        counts.put("false", matches.cardinality() - trueCount);
+        return counts;
+    }
+
+    private BitSet union(Map<String, BitSet> postings, Collection<String> values) {
+        BitSet result = new BitSet();
+        for (String value : values) {
+            BitSet bits = postings.get(key(value));
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private void applyFlag(BitSet matches, BitSet flag, boolean wanted) {
+        if (wanted) {
+            matches.and(flag);
+        } else {
+            matches.andNot(flag);
+        }
+    }
+
+    private void putLocked(Restaurant restaurant) {
+        Integer slot = slotById.get(restaurant.getId());
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? slotById.size() : freeSlots.pop();
+            slotById.put(restaurant.getId(), slot);
+            ensureCapacity(slot);
+        } else {
+            clearSlot(slot);
+        }
+
+        Restaurant row = snapshot(restaurant);
+        rows[slot] = row;
+        ratings[slot] = row.getRating() != null ? row.getRating() : 0.0;
+        live.set(slot);
+        if (row.getCuisine() != null) {
+            for (String cuisine : row.getCuisine()) {
+                addPosting(byCuisine, cuisine, slot);
+            }
+        }
+        addPosting(byPriceRange, row.getPriceRange(), slot);
+        veg.set(slot, Boolean.TRUE.equals(row.getIsVeg()));
+        open.set(slot, Boolean.TRUE.equals(row.getIsOpen()));
+    }
+
+    private void clearSlot(int slot) {
+        live.clear(slot);
+        veg.clear(slot);
+        open.clear(slot);
+        rows[slot] = null;
+        byCuisine.values().forEach(bits -> bits.clear(slot));
+        byPriceRange.values().forEach(bits -> bits.clear(slot));
+        byCuisine.values().removeIf(BitSet::isEmpty);
+        byPriceRange.values().removeIf(BitSet::isEmpty);
+    }
+
+    private void addPosting(Map<String, BitSet> postings, String value, int slot) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        String key = key(value);
+        labels.putIfAbsent(key, value);
+        postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot >= rows.length) {
+            int size = Math.max(rows.length * 2, slot + 1);
+            rows = Arrays.copyOf(rows, size);
+            ratings = Arrays.copyOf(ratings, size);
+        }
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Detached copy without the lazy menu so results serialize without touching the database
+    private static Restaurant snapshot(Restaurant source) {
+        Restaurant copy = new Restaurant();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setCuisine(source.getCuisine() != null ? new ArrayList<>(source.getCuisine()) : null);
+        copy.setPriceRange(source.getPriceRange());
+        copy.setRating(source.getRating());
+        copy.setReviewCount(source.getReviewCount());
+        copy.setDeliveryTime(source.getDeliveryTime());
+        copy.setImageUrl(source.getImageUrl());
+        copy.setAddress(source.getAddress());
+        copy.setPriceForTwo(source.getPriceForTwo());
+        copy.setIsVeg(source.getIsVeg());
+        copy.setIsOpen(source.getIsOpen());
+        return copy;
+    }
+}
@@ -1,10 +1,25 @@
 package com.foodiehub.service;
 
+import com.foodiehub.dto.CursorPage;
+import com.foodiehub.dto.RestaurantCardDTO;
+import com.foodiehub.dto.RestaurantDTO;
+import com.foodiehub.dto.RestaurantSearchResult;
 import com.foodiehub.model.Restaurant;
 import com.foodiehub.repository.RestaurantRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -13,39 +28,122 @@ public class RestaurantService {
     @Autowired
     private RestaurantRepository restaurantRepository;
     
-    public List<Restaurant> getAllRestaurants() {
-        return restaurantRepository.findAll();
+    @Autowired
+    private RestaurantFilterIndex restaurantFilterIndex;
+    
+    @Autowired
+    private MenuItemTagIndex menuItemTagIndex;
+    
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+    
+    @Autowired
+    private SingleFlight singleFlight;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private final TransactionTemplate readOnlyTransaction;
+    
+    public RestaurantService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Restaurant> getRestaurantsPage(String cursor, Integer size) {
+        Long afterId = CursorPage.decodeCursor(cursor);
+        int pageSize = CursorPage.clampPageSize(size);
+        List<Restaurant> rows = restaurantRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Restaurant::getId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<RestaurantDTO> getRestaurantNames() {
+        return restaurantRepository.findAllNames();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<RestaurantCardDTO> getRestaurantCards() {
+        List<RestaurantCardDTO> cards = restaurantRepository.findAllCards();
+        if (cards.isEmpty()) {
+            return cards;
+        }
+        Map<Long, RestaurantCardDTO> byId = new HashMap<>();
+        for (RestaurantCardDTO card : cards) {
+            card.setCuisine(new ArrayList<>());
+            byId.put(card.getId(), card);
+        }
+        for (Object[] row : restaurantRepository.findCuisinesByRestaurantIds(byId.keySet())) {
+            byId.get((Long) row[0]).getCuisine().add((String) row[1]);
+        }
+        return cards;
     }
     
     public Optional<Restaurant> getRestaurantById(Long id) {
-        return restaurantRepository.findById(id);
+        // Identical concurrent lookups (a featured restaurant) share one load
+        return singleFlight.execute("restaurant", id, () -> loadDetached(id));
+    }
+    
+    // Fully initialized and detached, so the shared instance serializes safely on every waiting thread
+    private Optional<Restaurant> loadDetached(Long id) {
+        return readOnlyTransaction.execute(tx -> restaurantRepository.findById(id).map(restaurant -> {
+            Hibernate.initialize(restaurant.getCuisine());
+            if (restaurant.getMenuItems() != null) {
+                restaurant.getMenuItems().forEach(menuItem -> Hibernate.initialize(menuItem.getTags()));
+            }
+            entityManager.detach(restaurant);
+            return restaurant;
+        }));
     }
     
+    @Transactional(readOnly = true)
     public List<Restaurant> getRestaurantsByCuisine(String cuisine) {
         return restaurantRepository.findByCuisineContaining(cuisine);
     }
     
+    @Transactional(readOnly = true)
     public List<Restaurant> getRestaurantsByPriceRange(String priceRange) {
         return restaurantRepository.findByPriceRange(priceRange);
     }
     
+    @Transactional(readOnly = true)
     public List<Restaurant> getRestaurantsByRating(Double rating) {
         return restaurantRepository.findByRatingGreaterThanEqual(rating);
     }
     
+    @Transactional(readOnly = true)
     public List<Restaurant> getVegRestaurants() {
         return restaurantRepository.findByIsVeg(true);
     }
     
+    @Transactional(readOnly = true)
     public List<Restaurant> getOpenRestaurants() {
         return restaurantRepository.findByIsOpen(true);
     }
     
+    public RestaurantSearchResult searchRestaurants(Collection<String> cuisines, Collection<String> priceRanges,
+                                                    Double minRating, Boolean isVeg, Boolean isOpen) {
+        return restaurantFilterIndex.search(cuisines, priceRanges, minRating, isVeg, isOpen);
+    }
+    
     public Restaurant saveRestaurant(Restaurant restaurant) {
-        return restaurantRepository.save(restaurant);
+        String previousName = restaurant.getId() != null
+                ? restaurantFilterIndex.find(restaurant.getId()).map(Restaurant::getName).orElse(null)
+                : null;
+        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        restaurantFilterIndex.put(savedRestaurant);
+        if (previousName != null && !previousName.equals(savedRestaurant.getName())) {
+            menuItemTagIndex.reindexRestaurant(savedRestaurant);
+        }
+        return savedRestaurant;
     }
     
     public void deleteRestaurant(Long id) {
         restaurantRepository.deleteById(id);
+        restaurantFilterIndex.remove(id);
+        // The cascade took the menu with it
+        menuItemTagIndex.removeRestaurant(id);
+        menuSnapshotService.invalidate(id, null);
     }
 } 
\ No newline at end of file
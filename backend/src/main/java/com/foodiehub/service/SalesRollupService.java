@@ -0,0 +1,344 @@
+package com.foodiehub.service;
+
+import com.foodiehub.dto.SalesSummaryDTO;
+import com.foodiehub.model.Order;
+import com.foodiehub.model.SalesRollupKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sales rollups per restaurant and hour/day bucket, split by status and by
+ * payment method. Order writes in {@link OrderService} and the intake report
+ * each created, changed or deleted order as signed deltas, applied as upserts in
+ * the caller's transaction (rows in key order, so concurrent writers lock them in
+ * the same order). Range reads combine hourly buckets at the ends of the range
+ * with daily buckets in between, so a year costs a few hundred rows per
+ * restaurant and never touches {@code orders}.
+ *
+ * <p>{@link #rebuild()} recomputes every restaurant from {@code orders},
+ * {@code orders_archive} and, when sharding is on, the restaurant's shard.
+ */
+@Service
+public class SalesRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesRollupService.class);
+
+    private static final int MAX_SERIES_BUCKETS = 10_000;
+
+    private static final String UPSERT =
+            "INSERT INTO sales_rollups (restaurant_id, granularity, bucket_start, dimension, dimension_value, " +
+            "order_count, revenue) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + ?, revenue = revenue + ?";
+
+    private static final String RANGE_TOTALS =
+            "SELECT restaurant_id, dimension, dimension_value, SUM(order_count) AS order_count, SUM(revenue) AS revenue " +
+            "FROM sales_rollups WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?%s " +
+            "GROUP BY restaurant_id, dimension, dimension_value";
+
+    private static final String SERIES =
+            "SELECT bucket_start, dimension, dimension_value, order_count, revenue FROM sales_rollups " +
+            "WHERE restaurant_id = ? AND granularity = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start";
+
+    // Hourly sales of one restaurant; the database groups, so rebuild memory follows buckets, not orders
+    private static final String HOURLY_SALES =
+            "SELECT YEAR(o.order_date) AS y, MONTH(o.order_date) AS mo, DAYOFMONTH(o.order_date) AS d, " +
+            "HOUR(o.order_date) AS h, o.status, o.payment_method, COUNT(*) AS order_count, SUM(o.price) AS revenue " +
+            "FROM %s WHERE %s = ? GROUP BY YEAR(o.order_date), MONTH(o.order_date), DAYOFMONTH(o.order_date), " +
+            "HOUR(o.order_date), o.status, o.payment_method";
+
+    private static final String PRIMARY_SALES = String.format(HOURLY_SALES,
+            "orders o JOIN menu_items m ON m.id = o.menu_item_id", "m.restaurant_id");
+    private static final String ARCHIVED_SALES = String.format(HOURLY_SALES,
+            "orders_archive o JOIN menu_items m ON m.id = o.menu_item_id", "m.restaurant_id");
+    private static final String SHARD_SALES = String.format(HOURLY_SALES, "orders o", "o.restaurant_id");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    private ShardedOrderStore shardedOrderStore;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public void recordCreated(Collection<Order> orders) {
+        Map<SalesRollupKey, Delta> deltas = new TreeMap<>();
+        for (Order order : orders) {
+            add(deltas, Contribution.of(order), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Moves an order's contribution from {@code before} (taken with
+     * {@link Contribution#of(Order)} ahead of the change) to its current state.
+     * Cells whose deltas cancel out are not written.
+     */
+    public void recordChanged(Contribution before, Order after) {
+        Map<SalesRollupKey, Delta> deltas = new TreeMap<>();
+        add(deltas, before, -1);
+        add(deltas, Contribution.of(after), 1);
+        apply(deltas);
+    }
+
+    // For status-only updates, where the order is read back after the change
+    public void recordStatusChanged(Order order, String previousStatus) {
+        Contribution after = Contribution.of(order);
+        if (after != null) {
+            recordChanged(after.withStatus(previousStatus), order);
+        }
+    }
+
+    public void recordDeleted(Order order) {
+        Map<SalesRollupKey, Delta> deltas = new TreeMap<>();
+        add(deltas, Contribution.of(order), -1);
+        apply(deltas);
+    }
+
+    /**
+     * Recomputes the rollups of every restaurant, one transaction per restaurant,
+     * and returns the number of restaurants rebuilt, or -1 when a rebuild is
+     * already running. Each restaurant's rows are deleted before its orders are
+     * read, so order writes racing with the rebuild wait on those row locks and
+     * are counted exactly once.
+     */
+    public int rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return -1;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            jdbcTemplate.update("DELETE FROM sales_rollups WHERE restaurant_id NOT IN (SELECT id FROM restaurants)");
+            List<Long> restaurantIds = jdbcTemplate.queryForList("SELECT id FROM restaurants ORDER BY id", Long.class);
+            for (Long restaurantId : restaurantIds) {
+                transactionTemplate.executeWithoutResult(tx -> rebuildRestaurant(restaurantId));
+            }
+            logger.info("Rebuilt sales rollups of {} restaurants in {} ms",
+                    restaurantIds.size(), System.currentTimeMillis() - started);
+            return restaurantIds.size();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Sales per restaurant (or of one restaurant) over {@code [from, to)}, widened
+     * to whole hours, highest revenue first.
+     */
+    @Transactional(readOnly = true)
+    public List<SalesSummaryDTO> summarize(LocalDateTime from, LocalDateTime to, Long restaurantId) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = roundUp(to, ChronoUnit.HOURS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        LocalDateTime firstDay = roundUp(start, ChronoUnit.DAYS);
+        LocalDateTime lastDay = end.truncatedTo(ChronoUnit.DAYS);
+
+        Map<Long, SalesSummaryDTO> summaries = new HashMap<>();
+        if (firstDay.isBefore(lastDay)) {
+            sumRange(summaries, SalesRollupKey.HOUR, start, firstDay, restaurantId);
+            sumRange(summaries, SalesRollupKey.DAY, firstDay, lastDay, restaurantId);
+            sumRange(summaries, SalesRollupKey.HOUR, lastDay, end, restaurantId);
+        } else {
+            sumRange(summaries, SalesRollupKey.HOUR, start, end, restaurantId);
+        }
+        List<SalesSummaryDTO> result = new ArrayList<>(summaries.values());
+        for (SalesSummaryDTO summary : result) {
+            summary.setPeriodStart(start);
+            summary.setPeriodEnd(end);
+        }
+        result.sort(Comparator.comparing(SalesSummaryDTO::getRevenue).reversed());
+        return result;
+    }
+
+    // One entry per hour or day of [from, to) that had orders, oldest first
+    @Transactional(readOnly = true)
+    public List<SalesSummaryDTO> series(Long restaurantId, LocalDateTime from, LocalDateTime to, String granularity) {
+        String bucket = granularity.toUpperCase(Locale.ROOT);
+        ChronoUnit unit;
+        if (SalesRollupKey.HOUR.equals(bucket)) {
+            unit = ChronoUnit.HOURS;
+        } else if (SalesRollupKey.DAY.equals(bucket)) {
+            unit = ChronoUnit.DAYS;
+        } else {
+            throw new IllegalArgumentException("granularity must be hour or day");
+        }
+        LocalDateTime start = from.truncatedTo(unit);
+        LocalDateTime end = roundUp(to, unit);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (unit.between(start, end) > MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException("At most " + MAX_SERIES_BUCKETS + " buckets per series");
+        }
+
+        Map<LocalDateTime, SalesSummaryDTO> buckets = new LinkedHashMap<>();
+        jdbcTemplate.query(SERIES, (RowCallbackHandler) rs -> {
+            LocalDateTime bucketStart = rs.getTimestamp("bucket_start").toLocalDateTime();
+            SalesSummaryDTO summary = buckets.computeIfAbsent(bucketStart,
+                    k -> new SalesSummaryDTO(restaurantId, k, k.plus(1, unit)));
+            accumulate(summary, rs.getString("dimension"), rs.getString("dimension_value"),
+                    rs.getLong("order_count"), rs.getBigDecimal("revenue"));
+        }, restaurantId, bucket, Timestamp.valueOf(start), Timestamp.valueOf(end));
+        return new ArrayList<>(buckets.values());
+    }
+
+    private void rebuildRestaurant(Long restaurantId) {
+        jdbcTemplate.update("DELETE FROM sales_rollups WHERE restaurant_id = ?", restaurantId);
+        Map<SalesRollupKey, Delta> cells = new TreeMap<>();
+        RowCallbackHandler collect = rs -> {
+            LocalDateTime hour = LocalDateTime.of(rs.getInt("y"), rs.getInt("mo"), rs.getInt("d"), rs.getInt("h"), 0);
+            add(cells, restaurantId, hour, rs.getString("status"), rs.getString("payment_method"),
+                    rs.getLong("order_count"), rs.getBigDecimal("revenue"));
+        };
+        jdbcTemplate.query(PRIMARY_SALES, collect, restaurantId);
+        jdbcTemplate.query(ARCHIVED_SALES, collect, restaurantId);
+        if (shardedOrderStore != null) {
+            shardedOrderStore.queryOwningShard(restaurantId, SHARD_SALES, collect, restaurantId);
+        }
+        apply(cells);
+    }
+
+    private void sumRange(Map<Long, SalesSummaryDTO> summaries, String granularity,
+                          LocalDateTime from, LocalDateTime to, Long restaurantId) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(granularity);
+        args.add(Timestamp.valueOf(from));
+        args.add(Timestamp.valueOf(to));
+        if (restaurantId != null) {
+            args.add(restaurantId);
+        }
+        String sql = String.format(RANGE_TOTALS, restaurantId != null ? " AND restaurant_id = ?" : "");
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            SalesSummaryDTO summary = summaries.computeIfAbsent(rs.getLong("restaurant_id"),
+                    id -> new SalesSummaryDTO(id, null, null));
+            accumulate(summary, rs.getString("dimension"), rs.getString("dimension_value"),
+                    rs.getLong("order_count"), rs.getBigDecimal("revenue"));
+        }, args.toArray());
+    }
+
+    // Every order is in exactly one status row, so the status rows also make up the totals
+    private static void accumulate(SalesSummaryDTO summary, String dimension, String value,
+                                   long orders, BigDecimal revenue) {
+        if (SalesRollupKey.STATUS.equals(dimension)) {
+            summary.setOrderCount(summary.getOrderCount() + orders);
+            summary.setRevenue(summary.getRevenue().add(revenue));
+            summary.getOrdersByStatus().merge(value, orders, Long::sum);
+            summary.getRevenueByStatus().merge(value, revenue, BigDecimal::add);
+        } else if (SalesRollupKey.PAYMENT_METHOD.equals(dimension)) {
+            summary.getOrdersByPaymentMethod().merge(value, orders, Long::sum);
+        }
+    }
+
+    private static void add(Map<SalesRollupKey, Delta> deltas, Contribution contribution, int sign) {
+        if (contribution == null) {
+            return;
+        }
+        add(deltas, contribution.restaurantId, contribution.orderDate, contribution.status,
+                contribution.paymentMethod, sign, contribution.price.multiply(BigDecimal.valueOf(sign)));
+    }
+
+    private static void add(Map<SalesRollupKey, Delta> deltas, Long restaurantId, LocalDateTime at,
+                            String status, String paymentMethod, long orders, BigDecimal revenue) {
+        LocalDateTime hour = at.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime day = at.truncatedTo(ChronoUnit.DAYS);
+        for (SalesRollupKey key : List.of(
+                new SalesRollupKey(restaurantId, SalesRollupKey.HOUR, hour, SalesRollupKey.STATUS, nullToEmpty(status)),
+                new SalesRollupKey(restaurantId, SalesRollupKey.HOUR, hour, SalesRollupKey.PAYMENT_METHOD, nullToEmpty(paymentMethod)),
+                new SalesRollupKey(restaurantId, SalesRollupKey.DAY, day, SalesRollupKey.STATUS, nullToEmpty(status)),
+                new SalesRollupKey(restaurantId, SalesRollupKey.DAY, day, SalesRollupKey.PAYMENT_METHOD, nullToEmpty(paymentMethod)))) {
+            Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+            delta.orders += orders;
+            delta.revenue = delta.revenue.add(revenue);
+        }
+    }
+
+    // Deltas arrive in key order (TreeMap), which fixes the row lock order across writers
+    private void apply(Map<SalesRollupKey, Delta> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta.orders != 0 || delta.revenue.signum() != 0) {
+                rows.add(new Object[]{key.getRestaurantId(), key.getGranularity(), Timestamp.valueOf(key.getBucketStart()),
+                        key.getDimension(), key.getDimensionValue(), delta.orders, delta.revenue, delta.orders, delta.revenue});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        }
+    }
+
+    private static LocalDateTime roundUp(LocalDateTime time, ChronoUnit unit) {
+        LocalDateTime truncated = time.truncatedTo(unit);
+        return truncated.isBefore(time) ? truncated.plus(1, unit) : truncated;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * What one order adds to the rollups: its restaurant, hour, status, payment
+     * method and price. Null for orders whose menu item has no known restaurant.
+     */
+    public static final class Contribution {
+        private final Long restaurantId;
+        private final LocalDateTime orderDate;
+        private final String status;
+        private final String paymentMethod;
+        private final BigDecimal price;
+
+        private Contribution(Long restaurantId, LocalDateTime orderDate, String status, String paymentMethod,
+                             BigDecimal price) {
+            this.restaurantId = restaurantId;
+            this.orderDate = orderDate;
+            this.status = status;
+            this.paymentMethod = paymentMethod;
+            this.price = price;
+        }
+
+        public static Contribution of(Order order) {
+            if (order.getMenuItem() == null || order.getMenuItem().getRestaurant() == null
+                    || order.getMenuItem().getRestaurant().getId() == null || order.getOrderDate() == null) {
+                return null;
+            }
+            return new Contribution(order.getMenuItem().getRestaurant().getId(), order.getOrderDate(),
+                    order.getStatus(), order.getPaymentMethod(),
+                    order.getPrice() != null ? BigDecimal.valueOf(order.getPrice()) : BigDecimal.ZERO);
+        }
+
+        public Contribution withStatus(String status) {
+            return new Contribution(restaurantId, orderDate, status, paymentMethod, price);
+        }
+    }
+
+    private static final class Delta {
+        private long orders;
+        private BigDecimal revenue = BigDecimal.ZERO;
+    }
+}
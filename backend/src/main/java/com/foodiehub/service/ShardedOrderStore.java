@@ -0,0 +1,558 @@
+package com.foodiehub.service;
+
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Order;
+import com.foodiehub.model.OrderLine;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Orders partitioned across several databases by the restaurant of their menu
+ * item, as placed by the {@link OrderShardMap}. Inserts, updates and id lookups
+ * touch a single shard: an order id is {@link #SHARDED_ID_BASE} plus the
+ * shard-local AUTO_INCREMENT id times {@link #ID_STRIDE} plus the shard index, so
+ * the owning shard is read off the id. Ids below the base were issued by the
+ * primary before sharding was enabled; {@link #isShardedId} tells them apart so
+ * they are never decoded as shard ids.
+ * Lookups by user or status run on every shard in parallel and the partial
+ * results are merged by order date, with the limit applied after the merge.
+ *
+ * <p>Shards hold no catalogue tables, so menu items are resolved from the
+ * in-memory {@link MenuItemTagIndex} rather than joined.
+ */
+public class ShardedOrderStore {
+
+    // Fixed upper bound on the shard count so existing ids stay decodable when shards are added
+    public static final int ID_STRIDE = 1024;
+
+    // Far above any primary AUTO_INCREMENT id, and sharded ids stay below 2^53 so JavaScript clients read them exactly
+    public static final long SHARDED_ID_BASE = 1L << 52;
+
+    private static final int LINE_FETCH_CHUNK = 500;
+
+    private static final String SELECT_ORDERS =
+            "SELECT id, menu_item_id, user_name, user_email, price, address, phone_number, status, order_date, " +
+            "delivery_notes, payment_method, payment_status, version FROM orders";
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (restaurant_id, menu_item_id, user_name, user_email, price, address, phone_number, " +
+            "status, order_date, delivery_notes, payment_method, payment_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LINE =
+            "INSERT INTO order_lines (order_id, menu_item_id, quantity, unit_price) VALUES (?, ?, ?, ?)";
+
+    // Compare-and-set on both the version and the status that were read, so a stale read never overwrites
+    private static final String UPDATE_ORDER =
+            "UPDATE orders SET user_name = ?, user_email = ?, price = ?, address = ?, phone_number = ?, status = ?, " +
+            "delivery_notes = ?, payment_method = ?, payment_status = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ? AND status = ?";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final Comparator<Order> BY_ID = Comparator.comparing(Order::getId);
+    private static final Comparator<Order> OLDEST_FIRST = Comparator.comparing(Order::getOrderDate);
+    private static final Comparator<Order> NEWEST_FIRST = OLDEST_FIRST.reversed();
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final OrderShardMap shardMap;
+    private final MenuItemTagIndex menuItemTagIndex;
+    private final ExecutorService scatterPool;
+    private final long scatterTimeoutMs;
+
+    public ShardedOrderStore(List<DataSource> dataSources, OrderShardMap shardMap, MenuItemTagIndex menuItemTagIndex,
+                             int scatterThreads, long scatterTimeoutMs) {
+        if (dataSources.size() != shardMap.getShardCount()) {
+            throw new IllegalArgumentException("Shard map expects " + shardMap.getShardCount()
+                    + " order shards but " + dataSources.size() + " are configured");
+        }
+        if (dataSources.size() > ID_STRIDE) {
+            throw new IllegalArgumentException("At most " + ID_STRIDE + " order shards are supported");
+        }
+        for (int i = 0; i < dataSources.size(); i++) {
+            shards.add(new Shard(i, dataSources.get(i)));
+        }
+        this.shardMap = shardMap;
+        this.menuItemTagIndex = menuItemTagIndex;
+        this.scatterTimeoutMs = scatterTimeoutMs;
+
+        AtomicInteger threadIds = new AtomicInteger();
+        scatterPool = Executors.newFixedThreadPool(scatterThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-shard-scatter-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    // False for ids issued by the primary database, whose orders are not on any shard
+    public boolean isShardedId(Long id) {
+        return id != null && id >= SHARDED_ID_BASE;
+    }
+
+    // Shard that owns the orders of this menu item's restaurant
+    public int shardFor(MenuItem menuItem) {
+        if (menuItem.getRestaurant() == null || menuItem.getRestaurant().getId() == null) {
+            throw new IllegalArgumentException("MenuItem " + menuItem.getId() + " has no restaurant");
+        }
+        int shard = shardMap.shardFor(menuItem.getRestaurant().getId());
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalStateException("Shard map placed restaurant " + menuItem.getRestaurant().getId()
+                    + " on unknown shard " + shard);
+        }
+        return shard;
+    }
+
+    /**
+     * Inserts the order and its lines in one transaction on the owning shard and
+     * assigns their ids.
+     */
+    public Order insert(Order order) {
+        int index = shardFor(order.getMenuItem());
+        Shard shard = shards.get(index);
+        shard.transactionTemplate.executeWithoutResult(tx -> {
+            long localId = insertOrders(shard, List.of(order)).get(0);
+            order.setId(encode(localId, index));
+            order.setVersion(0L);
+            if (!order.getLines().isEmpty()) {
+                List<Long> lineIds = insertLines(shard, localId, order.getLines());
+                for (int i = 0; i < lineIds.size(); i++) {
+                    order.getLines().get(i).setId(encode(lineIds.get(i), index));
+                }
+            }
+        });
+        return order;
+    }
+
+    /**
+     * Inserts single-item orders that all belong to one shard as one batch in one
+     * transaction and returns their ids in input order.
+     */
+    public List<Long> insertBatch(List<Order> orders) {
+        int index = shardFor(orders.get(0).getMenuItem());
+        for (Order order : orders) {
+            if (shardFor(order.getMenuItem()) != index) {
+                throw new IllegalArgumentException("Order batch spans more than one shard");
+            }
+        }
+        Shard shard = shards.get(index);
+        List<Long> localIds = shard.transactionTemplate.execute(tx -> insertOrders(shard, orders));
+        List<Long> ids = new ArrayList<>(localIds.size());
+        for (Long localId : localIds) {
+            ids.add(encode(localId, index));
+        }
+        return ids;
+    }
+
+    public Optional<Order> findById(Long id) {
+        Shard shard = shardOf(id);
+        if (shard == null) {
+            return Optional.empty();
+        }
+        return query(shard, SELECT_ORDERS + " WHERE id = ?", true, localId(id)).stream().findFirst();
+    }
+
+    public String findStatusById(Long id) {
+        Shard shard = shardOf(id);
+        if (shard == null) {
+            return null;
+        }
+        List<String> statuses = shard.jdbcTemplate.queryForList(
+                "SELECT status FROM orders WHERE id = ?", String.class, localId(id));
+        return statuses.isEmpty() ? null : statuses.get(0);
+    }
+
+    // Compare-and-set, like OrderRepository.transitionStatus
+    public int transitionStatus(Long id, Collection<String> from, String to) {
+        Shard shard = shardOf(id);
+        if (shard == null || from.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(to);
+        args.add(localId(id));
+        args.addAll(from);
+        return shard.jdbcTemplate.update(
+                "UPDATE orders SET status = ?, version = version + 1 WHERE id = ? AND status IN (" + placeholders(from.size()) + ")",
+                args.toArray());
+    }
+
+    /**
+     * Writes back the mutable columns of an order previously read with findById,
+     * in one statement that only matches while the row still has the version read
+     * and {@code expectedStatus}, like {@link #transitionStatus}. Returns false,
+     * writing nothing, when the order changed since it was read.
+     */
+    public boolean update(Order order, String expectedStatus) {
+        Shard shard = shardOf(order.getId());
+        if (shard == null) {
+            throw new IllegalArgumentException("Order " + order.getId() + " is not a sharded order id");
+        }
+        int updated = shard.jdbcTemplate.update(UPDATE_ORDER, order.getUserName(), order.getUserEmail(), order.getPrice(),
+                order.getAddress(), order.getPhoneNumber(), order.getStatus(), order.getDeliveryNotes(),
+                order.getPaymentMethod(), order.getPaymentStatus(), localId(order.getId()), order.getVersion(),
+                expectedStatus);
+        if (updated == 0) {
+            return false;
+        }
+        order.setVersion(order.getVersion() + 1);
+        return true;
+    }
+
+    public boolean delete(Long id) {
+        Shard shard = shardOf(id);
+        if (shard == null) {
+            return false;
+        }
+        long localId = localId(id);
+        Boolean deleted = shard.transactionTemplate.execute(tx -> {
+            shard.jdbcTemplate.update("DELETE FROM order_lines WHERE order_id = ?", localId);
+            return shard.jdbcTemplate.update("DELETE FROM orders WHERE id = ?", localId) > 0;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    public List<Order> findByUserName(String userName, Integer limit) {
+        return scatter(shards, " WHERE user_name = ?", " ORDER BY order_date DESC", NEWEST_FIRST, limit, userName);
+    }
+
+    public List<Order> findByUserEmail(String userEmail, Integer limit) {
+        return scatter(shards, " WHERE user_email = ?", " ORDER BY order_date DESC", NEWEST_FIRST, limit, userEmail);
+    }
+
+    public List<Order> findByStatus(String status, Integer limit) {
+        return scatter(shards, " WHERE status = ?", " ORDER BY order_date ASC", OLDEST_FIRST, limit, status);
+    }
+
+    // A menu item's orders all live on its restaurant's shard; unknown items are looked for everywhere
+    public List<Order> findByMenuItemId(Long menuItemId, Integer limit) {
+        List<Shard> targets = menuItemTagIndex.find(menuItemId)
+                .filter(menuItem -> menuItem.getRestaurant() != null)
+                .map(menuItem -> List.of(shards.get(shardFor(menuItem))))
+                .orElse(shards);
+        return scatter(targets, " WHERE menu_item_id = ?", " ORDER BY order_date DESC", NEWEST_FIRST, limit, menuItemId);
+    }
+
+    /**
+     * Up to {@code limit} orders with ids above {@code afterId}, lowest id first.
+     * Each shard is asked only for local ids past the cursor, so a page is one
+     * primary-key range read per shard whatever its position. Lines are left
+     * unset, as in the primary's pages.
+     */
+    public List<Order> findPageAfter(long afterId, int limit) {
+        String sql = SELECT_ORDERS + " WHERE id > ? ORDER BY id LIMIT ?";
+        List<Order> merged = gather(shards, sql, false,
+                shard -> new Object[]{lastLocalIdAtOrBefore(afterId, shard.index), limit});
+        merged.sort(BY_ID);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * Hands every matching order to {@code action}, shard after shard and in id
+     * order within a shard. Rows are read through a cursor and lines are left
+     * unset, as in the primary export, so memory does not follow the export size.
+     * Returns the number of orders read.
+     */
+    public long forEachForExport(LocalDateTime from, LocalDateTime to, String status, Consumer<Order> action) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            where.append(" AND order_date >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            where.append(" AND order_date < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        if (status != null) {
+            where.append(" AND status = ?");
+            args.add(status);
+        }
+        String sql = SELECT_ORDERS + where + " ORDER BY id";
+        long[] count = {0};
+        for (Shard shard : shards) {
+            shard.jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setFetchSize(EXPORT_FETCH_SIZE);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                Order order = mapOrder(rs, shard.index);
+                order.setLines(null);
+                action.accept(order);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    // Runs a read on the shard holding the restaurant's orders, for per-restaurant aggregates
+    public void queryOwningShard(long restaurantId, String sql, RowCallbackHandler handler, Object... args) {
+        int shard = shardMap.shardFor(restaurantId);
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalStateException("Shard map placed restaurant " + restaurantId + " on unknown shard " + shard);
+        }
+        shards.get(shard).jdbcTemplate.query(sql, handler, args);
+    }
+
+    // Runs a read on every shard in turn, for aggregates over all orders
+    public void queryEachShard(String sql, RowCallbackHandler handler, Object... args) {
+        for (Shard shard : shards) {
+            shard.jdbcTemplate.query(sql, handler, args);
+        }
+    }
+
+    public void close() throws Exception {
+        scatterPool.shutdownNow();
+        for (Shard shard : shards) {
+            if (shard.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Runs the query on each target shard in parallel, each shard applying the
+     * ORDER BY and LIMIT itself, then merges and cuts the partial results. Any
+     * shard failing or missing the deadline fails the whole lookup rather than
+     * silently returning a partial answer.
+     */
+    private List<Order> scatter(List<Shard> targets, String where, String orderBy, Comparator<Order> comparator,
+                                Integer limit, Object... args) {
+        String sql = SELECT_ORDERS + where + (limit != null ? orderBy + " LIMIT ?" : "");
+        Object[] queryArgs = args;
+        if (limit != null) {
+            queryArgs = Arrays.copyOf(args, args.length + 1);
+            queryArgs[args.length] = limit;
+        }
+
+        Object[] shardArgs = queryArgs;
+        List<Order> merged = gather(targets, sql, true, shard -> shardArgs);
+        merged.sort(comparator);
+        return limit != null && merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    // Runs the query on every target shard in parallel and returns the unsorted union
+    private List<Order> gather(List<Shard> targets, String sql, boolean withLines, Function<Shard, Object[]> argsFor) {
+        List<Order> merged = new ArrayList<>();
+        if (targets.size() == 1) {
+            merged.addAll(query(targets.get(0), sql, withLines, argsFor.apply(targets.get(0))));
+        } else {
+            List<Future<List<Order>>> partials = new ArrayList<>(targets.size());
+            for (Shard shard : targets) {
+                Object[] shardArgs = argsFor.apply(shard);
+                partials.add(scatterPool.submit(() -> query(shard, sql, withLines, shardArgs)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMs);
+            try {
+                for (Future<List<Order>> partial : partials) {
+                    merged.addAll(partial.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while querying order shards", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Order shard query failed: " + e.getCause().getMessage(), e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Order shards did not answer within " + scatterTimeoutMs + " ms", e);
+            } finally {
+                for (Future<List<Order>> partial : partials) {
+                    partial.cancel(true);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private List<Order> query(Shard shard, String sql, boolean withLines, Object... args) {
+        List<Order> orders = shard.jdbcTemplate.query(sql, (rs, rowNum) -> mapOrder(rs, shard.index), args);
+        if (withLines) {
+            loadLines(shard, orders);
+        } else {
+            orders.forEach(order -> order.setLines(null));
+        }
+        return orders;
+    }
+
+    private void loadLines(Shard shard, List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Map<Long, Order> byLocalId = new HashMap<>();
+        for (Order order : orders) {
+            byLocalId.put(localId(order.getId()), order);
+        }
+        List<Long> localIds = new ArrayList<>(byLocalId.keySet());
+        for (int from = 0; from < localIds.size(); from += LINE_FETCH_CHUNK) {
+            List<Long> chunk = localIds.subList(from, Math.min(localIds.size(), from + LINE_FETCH_CHUNK));
+            shard.jdbcTemplate.query(
+                    "SELECT id, order_id, menu_item_id, quantity, unit_price FROM order_lines WHERE order_id IN ("
+                            + placeholders(chunk.size()) + ") ORDER BY id",
+                    (RowCallbackHandler) rs -> {
+                        OrderLine line = new OrderLine();
+                        line.setId(encode(rs.getLong("id"), shard.index));
+                        line.setMenuItem(menuItemTagIndex.resolve(rs.getLong("menu_item_id")));
+                        line.setQuantity(rs.getInt("quantity"));
+                        line.setUnitPrice(rs.getDouble("unit_price"));
+                        byLocalId.get(rs.getLong("order_id")).addLine(line);
+                    },
+                    chunk.toArray());
+        }
+    }
+
+    private Order mapOrder(ResultSet rs, int shardIndex) throws SQLException {
+        Order order = new Order();
+        order.setId(encode(rs.getLong("id"), shardIndex));
+        order.setMenuItem(menuItemTagIndex.resolve(rs.getLong("menu_item_id")));
+        order.setUserName(rs.getString("user_name"));
+        order.setUserEmail(rs.getString("user_email"));
+        order.setPrice(rs.getDouble("price"));
+        order.setAddress(rs.getString("address"));
+        order.setPhoneNumber(rs.getString("phone_number"));
+        order.setStatus(rs.getString("status"));
+        order.setOrderDate(rs.getTimestamp("order_date").toLocalDateTime());
+        order.setDeliveryNotes(rs.getString("delivery_notes"));
+        order.setPaymentMethod(rs.getString("payment_method"));
+        order.setPaymentStatus(rs.getString("payment_status"));
+        order.setVersion(rs.getLong("version"));
+        return order;
+    }
+
+    private List<Long> insertOrders(Shard shard, List<Order> orders) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        shard.jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ORDER, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Order order = orders.get(i);
+                        ps.setLong(1, order.getMenuItem().getRestaurant().getId());
+                        ps.setLong(2, order.getMenuItem().getId());
+                        ps.setString(3, order.getUserName());
+                        ps.setString(4, order.getUserEmail());
+                        ps.setObject(5, order.getPrice());
+                        ps.setString(6, order.getAddress());
+                        ps.setString(7, order.getPhoneNumber());
+                        ps.setString(8, order.getStatus());
+                        ps.setTimestamp(9, Timestamp.valueOf(order.getOrderDate()));
+                        ps.setString(10, order.getDeliveryNotes());
+                        ps.setString(11, order.getPaymentMethod());
+                        ps.setString(12, order.getPaymentStatus());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orders.size();
+                    }
+                },
+                keys);
+        return generatedIds(keys);
+    }
+
+    private List<Long> insertLines(Shard shard, long localOrderId, List<OrderLine> lines) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        shard.jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_LINE, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderLine line = lines.get(i);
+                        ps.setLong(1, localOrderId);
+                        ps.setLong(2, line.getMenuItem().getId());
+                        ps.setInt(3, line.getQuantity());
+                        ps.setDouble(4, line.getUnitPrice());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return lines.size();
+                    }
+                },
+                keys);
+        return generatedIds(keys);
+    }
+
+    private static List<Long> generatedIds(KeyHolder keys) {
+        List<Long> ids = new ArrayList<>();
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private Shard shardOf(Long id) {
+        if (!isShardedId(id)) {
+            return null;
+        }
+        int index = (int) ((id - SHARDED_ID_BASE) % ID_STRIDE);
+        return index < shards.size() ? shards.get(index) : null;
+    }
+
+    private static long encode(long localId, int shardIndex) {
+        return SHARDED_ID_BASE + localId * ID_STRIDE + shardIndex;
+    }
+
+    // Highest local id on the shard whose global id is at most afterId; primary ids precede every shard row
+    private static long lastLocalIdAtOrBefore(long afterId, int shardIndex) {
+        if (afterId < SHARDED_ID_BASE) {
+            return 0;
+        }
+        return Math.floorDiv(afterId - SHARDED_ID_BASE - shardIndex, ID_STRIDE);
+    }
+
+    private static long localId(long id) {
+        return (id - SHARDED_ID_BASE) / ID_STRIDE;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        private Shard(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+    }
+}
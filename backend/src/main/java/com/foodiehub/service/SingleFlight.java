@@ -0,0 +1,79 @@
+package com.foodiehub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent loads. The first caller for a key runs the
+ * loader on its own thread; callers arriving while it is in flight wait for and
+ * share its result (or exception) instead of issuing the same query again. Nothing
+ * is kept once the load finishes, so this bounds database work during a
+ * thundering herd without acting as a cache.
+ *
+ * <p>Loaders must return values that are safe to hand to several threads, i.e.
+ * detached and fully initialized entities or immutable data.
+ */
+@Component
+public class SingleFlight {
+
+    private static final String METRIC = "catalogue.singleflight.calls";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String flight, Object key, Supplier<T> loader) {
+        String flightKey = flight + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+        if (existing != null) {
+            counter(flight, "shared").increment();
+            return (T) await(existing);
+        }
+
+        counter(flight, "leader").increment();
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // shared / (leader + shared) per flight is the coalescing ratio
+    private Counter counter(String flight, String role) {
+        return counters.computeIfAbsent(flight + "|" + role, k -> Counter.builder(METRIC)
+                .description("Catalogue loads by whether they ran the query or shared an in-flight one")
+                .tag("flight", flight)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,344 @@
+package com.foodiehub.service;
+
+import com.foodiehub.dto.TrendingItemDTO;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.MenuItemRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Approximate "most ordered recently" tracker. Order counts go into one
+ * Count-Min sketch per time window; the sliding estimate for an item is the sum
+ * over the live windows. A bounded min-heap keeps the current heavy hitters
+ * together with the display fields they need, so reading the top K never touches
+ * the database or scales with the catalogue.
+ *
+ * <p>Orders count once their transaction commits. On startup the windows are
+ * refilled from the orders placed within them, so a restart does not empty
+ * the list.
+ */
+@Service
+public class TrendingItemsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingItemsService.class);
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+
+    @Value("${trending.window-minutes:10}")
+    private long windowMinutes;
+
+    @Value("${trending.windows:6}")
+    private int windowCount;
+
+    @Value("${trending.capacity:64}")
+    private int capacity;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired(required = false)
+    private ShardedOrderStore shardedOrderStore;
+
+    private long windowMillis;
+    private CountMinSketch[] sketches;
+    private long[] windowEpochs;
+    private long currentEpoch = -1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingLong((Candidate c) -> c.count));
+
+    @PostConstruct
+    void init() {
+        windowMillis = windowMinutes * 60_000L;
+        sketches = new CountMinSketch[windowCount];
+        windowEpochs = new long[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            sketches[i] = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+            windowEpochs[i] = -1;
+        }
+    }
+
+    /**
+     * Counts an order of {@code quantity} of the item. Inside a transaction the
+     * count is applied after commit, so rolled-back orders never trend; the
+     * display fields are read now, while the item's session is still open.
+     */
+    public void recordOrder(MenuItem menuItem, int quantity) {
+        if (menuItem == null || menuItem.getId() == null || quantity <= 0) {
+            return;
+        }
+        Candidate sighting = new Candidate(menuItem, 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    count(sighting, quantity, System.currentTimeMillis());
+                }
+            });
+        } else {
+            count(sighting, quantity, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Refills the live windows from orders placed within them, on the primary and
+     * on every shard. Cart orders count their lines; single-item orders have none
+     * and count their menu item once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long oldestWindow = (System.currentTimeMillis() / windowMillis - windowCount + 1) * windowMillis;
+        String sql = "SELECT o.menu_item_id, o.order_date, l.menu_item_id AS line_item_id, l.quantity " +
+                "FROM orders o LEFT JOIN order_lines l ON l.order_id = o.id WHERE o.order_date >= ?";
+        List<long[]> sightings = new ArrayList<>();
+        RowCallbackHandler collect = rs -> {
+            long lineItemId = rs.getLong("line_item_id");
+            boolean isLine = !rs.wasNull();
+            sightings.add(new long[]{
+                    isLine ? lineItemId : rs.getLong("menu_item_id"),
+                    isLine ? rs.getInt("quantity") : 1,
+                    rs.getTimestamp("order_date").getTime()});
+        };
+        Timestamp since = new Timestamp(oldestWindow);
+        jdbcTemplate.query(sql, collect, since);
+        if (shardedOrderStore != null) {
+            shardedOrderStore.queryEachShard(sql, collect, since);
+        }
+
+        Set<Long> menuItemIds = new HashSet<>();
+        sightings.forEach(sighting -> menuItemIds.add(sighting[0]));
+        Map<Long, Candidate> display = new HashMap<>();
+        for (MenuItem menuItem : menuItemRepository.findAllById(menuItemIds)) {
+            display.put(menuItem.getId(), new Candidate(menuItem, 0));
+        }
+        for (long[] sighting : sightings) {
+            Candidate item = display.get(sighting[0]);
+            if (item != null) {
+                count(item.copy(), sighting[1], sighting[2]);
+            }
+        }
+        logger.info("Trending items warmed up from {} recent order items", sightings.size());
+    }
+
+    // Adds quantity to the window holding orderedAt, if that window is still live
+    private void count(Candidate sighting, long quantity, long orderedAt) {
+        // A j.u.c lock rather than synchronized so virtual threads never pin a carrier here
+        lock.lock();
+        try {
+            advance(System.currentTimeMillis());
+            long epoch = orderedAt / windowMillis;
+            if (epoch <= currentEpoch - windowCount || epoch > currentEpoch) {
+                return;
+            }
+            int slot = (int) (epoch % windowCount);
+            if (windowEpochs[slot] != epoch) {
+                sketches[slot].clear();
+                windowEpochs[slot] = epoch;
+            }
+            sketches[slot].add(sighting.menuItemId, quantity);
+            long estimate = estimate(sighting.menuItemId);
+
+            Candidate candidate = candidates.get(sighting.menuItemId);
+            if (candidate != null) {
+                heap.remove(candidate);
+                candidate.refresh(sighting);
+                candidate.count = estimate;
+                heap.add(candidate);
+            } else if (candidates.size() < capacity) {
+                sighting.count = estimate;
+                track(sighting);
+            } else if (heap.peek().count < estimate) {
+                candidates.remove(heap.poll().menuItemId);
+                sighting.count = estimate;
+                track(sighting);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<TrendingItemDTO> getTopItems(int k) {
+        List<Candidate> top;
+        lock.lock();
+        try {
+            advance(System.currentTimeMillis());
+            top = new ArrayList<>(heap);
+        } finally {
+            lock.unlock();
+        }
+        top.sort(Comparator.comparingLong((Candidate c) -> c.count).reversed());
+        List<TrendingItemDTO> result = new ArrayList<>();
+        for (Candidate candidate : top.subList(0, Math.min(k, top.size()))) {
+            result.add(candidate.toDTO());
+        }
+        return result;
+    }
+
+    private void track(Candidate candidate) {
+        candidates.put(candidate.menuItemId, candidate);
+        heap.add(candidate);
+    }
+
+    // Clears sketches whose window has slid out and re-scores the heap once per new window
+    private void advance(long now) {
+        long epoch = now / windowMillis;
+        if (epoch == currentEpoch) {
+            return;
+        }
+        for (int i = 0; i < windowCount; i++) {
+            if (windowEpochs[i] <= epoch - windowCount) {
+                sketches[i].clear();
+                windowEpochs[i] = -1;
+            }
+        }
+        int slot = (int) (epoch % windowCount);
+        if (windowEpochs[slot] != epoch) {
+            sketches[slot].clear();
+            windowEpochs[slot] = epoch;
+        }
+        currentEpoch = epoch;
+
+        List<Candidate> tracked = new ArrayList<>(heap);
+        heap.clear();
+        for (Candidate candidate : tracked) {
+            candidate.count = estimate(candidate.menuItemId);
+            if (candidate.count > 0) {
+                heap.add(candidate);
+            } else {
+                candidates.remove(candidate.menuItemId);
+            }
+        }
+    }
+
+    private long estimate(long menuItemId) {
+        long total = 0;
+        for (int i = 0; i < windowCount; i++) {
+            if (windowEpochs[i] > currentEpoch - windowCount) {
+                total += sketches[i].estimate(menuItemId);
+            }
+        }
+        return total;
+    }
+
+    private static final class Candidate {
+        private final Long menuItemId;
+        private String name;
+        private Double price;
+        private String imageUrl;
+        private Boolean isVeg;
+        private Long restaurantId;
+        private String restaurantName;
+        private long count;
+
+        private Candidate(MenuItem menuItem, long count) {
+            this.menuItemId = menuItem.getId();
+            this.count = count;
+            refresh(menuItem);
+        }
+
+        private Candidate(Candidate other) {
+            this.menuItemId = other.menuItemId;
+            refresh(other);
+        }
+
+        private Candidate copy() {
+            return new Candidate(this);
+        }
+
+        private void refresh(Candidate newer) {
+            this.name = newer.name;
+            this.price = newer.price;
+            this.imageUrl = newer.imageUrl;
+            this.isVeg = newer.isVeg;
+            this.restaurantId = newer.restaurantId;
+            this.restaurantName = newer.restaurantName;
+        }
+
+        private void refresh(MenuItem menuItem) {
+            this.name = menuItem.getName();
+            this.price = menuItem.getPrice();
+            this.imageUrl = menuItem.getImageUrl();
+            this.isVeg = menuItem.getIsVeg();
+            Restaurant restaurant = menuItem.getRestaurant();
+            if (restaurant != null) {
+                this.restaurantId = restaurant.getId();
+                this.restaurantName = restaurant.getName();
+            }
+        }
+
+        private TrendingItemDTO toDTO() {
+            return new TrendingItemDTO(menuItemId, name, price, imageUrl, isVeg, restaurantId, restaurantName, count);
+        }
+    }
+
+    static final class CountMinSketch {
+        private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+        };
+
+        private final int width;
+        private final long[][] counts;
+
+        CountMinSketch(int depth, int width) {
+            this.width = width;
+            this.counts = new long[Math.min(depth, SEEDS.length)][width];
+        }
+
+        void add(long key, long amount) {
+            for (int row = 0; row < counts.length; row++) {
+                counts[row][bucket(key, row)] += amount;
+            }
+        }
+
+        long estimate(long key) {
+            long min = Long.MAX_VALUE;
+            for (int row = 0; row < counts.length; row++) {
+                min = Math.min(min, counts[row][bucket(key, row)]);
+            }
+            return min;
+        }
+
+        void clear() {
+            for (long[] row : counts) {
+                Arrays.fill(row, 0L);
+            }
+        }
+
+        private int bucket(long key, int row) {
+            long h = (key + 1) * SEEDS[row];
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            return (int) Math.floorMod(h, (long) width);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+-- Schema as previously created by hibernate ddl-auto=update. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE IF NOT EXISTS restaurants (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    price_range VARCHAR(255) NOT NULL,
+    rating DOUBLE NOT NULL,
+    review_count INT,
+    delivery_time VARCHAR(255) NOT NULL,
+    image_url VARCHAR(255),
+    address VARCHAR(255) NOT NULL,
+    price_for_two INT,
+    is_veg BIT,
+    is_open BIT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS restaurant_cuisines (
+    restaurant_id BIGINT NOT NULL,
+    cuisine VARCHAR(255),
+    CONSTRAINT fk_restaurant_cuisines_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS menu_items (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    price DOUBLE NOT NULL,
+    image_url VARCHAR(255),
+    is_veg BIT,
+    is_available BIT,
+    restaurant_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menu_items_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS menu_item_tags (
+    menu_item_id BIGINT NOT NULL,
+    tag VARCHAR(255),
+    CONSTRAINT fk_menu_item_tags_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    menu_item_id BIGINT NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    price DOUBLE NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    order_date DATETIME(6) NOT NULL,
+    delivery_notes VARCHAR(255),
+    payment_method VARCHAR(255) NOT NULL,
+    payment_status VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS order_lines (
+    id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    menu_item_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    unit_price DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_lines_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_lines_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+) ENGINE = InnoDB;
+
+-- MySQL has no sequences; Hibernate emulates order_line_seq with a single-row table
+CREATE TABLE IF NOT EXISTS order_line_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO order_line_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM order_line_seq);
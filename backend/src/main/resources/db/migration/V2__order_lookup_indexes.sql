@@ -0,0 +1,8 @@
+-- Composite indexes for the per-user, per-status and per-item order lookups; each
+-- one also serves the ORDER BY order_date of the limited finders without a filesort.
+-- Names match the @Index declarations on Order.
+
+CREATE INDEX idx_orders_user_email_date ON orders (user_email, order_date DESC);
+CREATE INDEX idx_orders_user_name_date ON orders (user_name, order_date DESC);
+CREATE INDEX idx_orders_status_date ON orders (status, order_date);
+CREATE INDEX idx_orders_menu_item_date ON orders (menu_item_id, order_date DESC);
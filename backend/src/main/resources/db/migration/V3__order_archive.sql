@@ -0,0 +1,33 @@
+-- Cold storage for finished orders, filled in chunks by OrderArchiveService.
+-- Same columns as orders/order_lines plus archived_at; ids are carried over, and
+-- menu items are plain ids so archived rows never block catalogue deletes.
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id BIGINT NOT NULL,
+    menu_item_id BIGINT NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    price DOUBLE NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    order_date DATETIME(6) NOT NULL,
+    delivery_notes VARCHAR(255),
+    payment_method VARCHAR(255) NOT NULL,
+    payment_status VARCHAR(255),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_orders_archive_user_email_date ON orders_archive (user_email, order_date DESC);
+CREATE INDEX idx_orders_archive_user_name_date ON orders_archive (user_name, order_date DESC);
+
+CREATE TABLE IF NOT EXISTS order_lines_archive (
+    id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    menu_item_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    unit_price DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_lines_archive_order FOREIGN KEY (order_id) REFERENCES orders_archive (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- Order count and revenue per restaurant, hour/day bucket and status or payment
+-- method, kept current by SalesRollupService. The primary key leads with the
+-- restaurant so a restaurant's range reads are one contiguous scan; the bucket
+-- index serves cross-restaurant ranges.
+
+CREATE TABLE IF NOT EXISTS sales_rollups (
+    restaurant_id BIGINT NOT NULL,
+    granularity VARCHAR(8) NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    dimension VARCHAR(16) NOT NULL,
+    dimension_value VARCHAR(255) NOT NULL,
+    order_count BIGINT NOT NULL,
+    revenue DECIMAL(19, 4) NOT NULL,
+    PRIMARY KEY (restaurant_id, granularity, bucket_start, dimension, dimension_value)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_sales_rollups_bucket ON sales_rollups (granularity, bucket_start);
@@ -0,0 +1,5 @@
+-- Optimistic lock column for Order (@Version). Every order write bumps it, so a
+-- read-modify-write based on a stale read is rejected instead of overwriting a
+-- concurrent change. Rows inserted over plain JDBC start at 0.
+
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
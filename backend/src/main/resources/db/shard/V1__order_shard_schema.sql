@@ -0,0 +1,37 @@
+-- Schema of one order shard (classpath:db/shard, applied to every shard on startup).
+-- Unlike the primary there are no catalogue tables, so menu_item_id and
+-- restaurant_id are plain columns; restaurant_id is the shard key. Kept to SQL
+-- that MySQL and H2 (MODE=MySQL) both accept, so embedded shards run it too.
+
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    restaurant_id BIGINT NOT NULL,
+    menu_item_id BIGINT NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    price DOUBLE NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    order_date DATETIME(6) NOT NULL,
+    delivery_notes VARCHAR(255),
+    payment_method VARCHAR(255) NOT NULL,
+    payment_status VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_lines (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_id BIGINT NOT NULL,
+    menu_item_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    unit_price DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_lines_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+-- Same lookup indexes as the primary (V2__order_lookup_indexes.sql)
+CREATE INDEX idx_orders_user_email_date ON orders (user_email, order_date DESC);
+CREATE INDEX idx_orders_user_name_date ON orders (user_name, order_date DESC);
+CREATE INDEX idx_orders_status_date ON orders (status, order_date);
+CREATE INDEX idx_orders_menu_item_date ON orders (menu_item_id, order_date DESC);
@@ -0,0 +1,2 @@
+-- A restaurant's orders for the sales rollup rebuild, without scanning the shard
+CREATE INDEX idx_orders_restaurant_date ON orders (restaurant_id, order_date);
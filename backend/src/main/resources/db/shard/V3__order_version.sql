@@ -0,0 +1,2 @@
+-- Optimistic lock column, as on the primary (V5__order_version.sql)
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
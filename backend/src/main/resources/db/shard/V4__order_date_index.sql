@@ -0,0 +1,2 @@
+-- Orders placed since a point in time, for the trending warm-up on startup
+CREATE INDEX idx_orders_order_date ON orders (order_date);
@@ -0,0 +1,142 @@
+package com.foodiehub.controller;
+
+import com.foodiehub.config.RequestMetricsFilter;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Order;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.MenuItemRepository;
+import com.foodiehub.repository.OrderRepository;
+import com.foodiehub.repository.RestaurantRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * N+1 guard: every list endpoint must issue the same number of SQL statements
+ * whatever the number of rows it returns. Each endpoint is called at two data
+ * sizes and the statement counts reported in its Server-Timing header compared.
+ * Both sizes stay below {@code hibernate.default_batch_fetch_size}, so batch
+ * loading of lazy collections costs the same at either size.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListEndpointStatementCountTest {
+
+    private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    private static final List<String> LIST_ENDPOINTS = List.of(
+            "/api/restaurants",
+            "/api/restaurants/page?size=100",
+            "/api/restaurants/names",
+            "/api/restaurants/cards",
+            "/api/restaurants/cuisine/Indian",
+            "/api/restaurants/price-range/Moderate",
+            "/api/restaurants/rating/0",
+            "/api/restaurants/veg",
+            "/api/restaurants/open",
+            "/api/menu-items",
+            "/api/menu-items/page?size=100",
+            "/api/menu-items/summary",
+            "/api/orders",
+            "/api/orders/page?size=100");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statementCountDoesNotGrowWithResultSize() throws Exception {
+        addRestaurants(2);
+        Map<String, Long> small = statementCounts();
+        addRestaurants(8);
+        Map<String, Long> large = statementCounts();
+
+        assertEquals(small, large, "SQL statements per request grew with the result size (N+1)");
+    }
+
+    private Map<String, Long> statementCounts() throws Exception {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String endpoint : LIST_ENDPOINTS) {
+            counts.put(endpoint, statements(endpoint));
+        }
+        return counts;
+    }
+
+    private long statements(String endpoint) throws Exception {
+        // A warm second-level or query cache would hide statements at one size but not the other
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        String serverTiming = mockMvc.perform(get(endpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(RequestMetricsFilter.SERVER_TIMING);
+        assertNotNull(serverTiming, endpoint + " has no Server-Timing header");
+        Matcher matcher = STATEMENTS.matcher(serverTiming);
+        assertTrue(matcher.find(), endpoint + " reported no statement count: " + serverTiming);
+        return Long.parseLong(matcher.group(1));
+    }
+
+    // Every restaurant gets the same shape, so only the number of rows differs between sizes
+    private void addRestaurants(int count) {
+        for (int i = 0; i < count; i++) {
+            Restaurant restaurant = new Restaurant();
+            restaurant.setName("Statement Count " + i);
+            restaurant.setCuisine(List.of("Indian", "Vegetarian"));
+            restaurant.setPriceRange("Moderate");
+            restaurant.setRating(4.0);
+            restaurant.setDeliveryTime("30-40");
+            restaurant.setAddress("1 Test Street");
+            restaurant.setIsVeg(true);
+            restaurant.setIsOpen(true);
+            restaurant = restaurantRepository.save(restaurant);
+
+            for (int j = 0; j < 2; j++) {
+                MenuItem menuItem = new MenuItem();
+                menuItem.setName("Dish " + j);
+                menuItem.setDescription("Test dish");
+                menuItem.setPrice(10.0 + j);
+                menuItem.setIsVeg(true);
+                menuItem.setIsAvailable(true);
+                menuItem.setTags(List.of("spicy", "popular"));
+                menuItem.setRestaurant(restaurant);
+                menuItem = menuItemRepository.save(menuItem);
+
+                Order order = new Order();
+                order.setMenuItem(menuItem);
+                order.setUserName("user" + i);
+                order.setUserEmail("user" + i + "@example.com");
+                order.setPrice(menuItem.getPrice());
+                order.setAddress("1 Test Street");
+                order.setPaymentMethod("Card");
+                orderRepository.save(order);
+            }
+        }
+    }
+}
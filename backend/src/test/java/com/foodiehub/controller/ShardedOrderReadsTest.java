@@ -0,0 +1,178 @@
+package com.foodiehub.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Order;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.MenuItemRepository;
+import com.foodiehub.repository.OrderRepository;
+import com.foodiehub.repository.RestaurantRepository;
+import com.foodiehub.service.MenuItemTagIndex;
+import com.foodiehub.service.OrderService;
+import com.foodiehub.service.ShardedOrderStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orders placed before sharding was enabled stay on the primary; every list read
+ * must still return them next to the orders the shards took after the cut-over.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:foodiehub-sharded-reads;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "sharding.enabled=true",
+        "sharding.urls=jdbc:h2:mem:sharded-reads-0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:sharded-reads-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShardedOrderReadsTest {
+
+    private static final String USER = "Cut Over";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuItemTagIndex menuItemTagIndex;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ShardedOrderStore shardedOrderStore;
+
+    private MenuItem menuItem;
+    private final Set<Long> beforeSharding = new HashSet<>();
+    private final Set<Long> afterSharding = new HashSet<>();
+
+    @BeforeEach
+    void placeOrders() {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setName("Sharded Reads");
+        restaurant.setCuisine(List.of("Indian"));
+        restaurant.setPriceRange("Moderate");
+        restaurant.setRating(4.0);
+        restaurant.setDeliveryTime("30-40");
+        restaurant.setAddress("1 Test Street");
+        restaurant = restaurantRepository.save(restaurant);
+
+        menuItem = new MenuItem();
+        menuItem.setName("Dish");
+        menuItem.setDescription("Test dish");
+        menuItem.setPrice(10.0);
+        menuItem.setRestaurant(restaurant);
+        menuItem = menuItemRepository.save(menuItem);
+        menuItemTagIndex.put(menuItem);
+
+        // Written straight to the primary, as every order was before sharding was turned on
+        for (int i = 0; i < 3; i++) {
+            beforeSharding.add(orderRepository.save(newOrder()).getId());
+        }
+        for (int i = 0; i < 3; i++) {
+            afterSharding.add(orderService.createOrder(newOrder()).getId());
+        }
+        beforeSharding.forEach(id -> assertFalse(shardedOrderStore.isShardedId(id)));
+        afterSharding.forEach(id -> assertTrue(shardedOrderStore.isShardedId(id)));
+    }
+
+    @Test
+    void listsReturnOrdersFromBeforeAndAfterTheCutOver() throws Exception {
+        assertContainsBoth(ids(getJson("/api/orders?size=100")));
+        assertContainsBoth(ids(getJson("/api/orders/user/" + USER)));
+        assertContainsBoth(ids(getJson("/api/orders/user/" + USER + "?limit=100")));
+        assertContainsBoth(ids(getJson("/api/orders/email/cutover@example.com?limit=100")));
+        assertContainsBoth(ids(getJson("/api/orders/status/Pending?limit=500")));
+        assertContainsBoth(ids(getJson("/api/orders/menu-item/" + menuItem.getId())));
+    }
+
+    @Test
+    void pagesWalkThePrimaryThenTheShards() throws Exception {
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = getJson("/api/orders/page?size=2" + (cursor != null ? "&cursor=" + cursor : ""));
+            walked.addAll(ids(page.get("items")));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertEquals(walked.size(), new HashSet<>(walked).size(), "A page repeated an order: " + walked);
+        assertContainsBoth(walked);
+    }
+
+    @Test
+    void exportIncludesOrdersFromBeforeAndAfterTheCutOver() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> exported = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                exported.add(objectMapper.readTree(line).get("id").asLong());
+            }
+        }
+        assertContainsBoth(exported);
+    }
+
+    private Order newOrder() {
+        Order order = new Order();
+        order.setMenuItem(menuItem);
+        order.setUserName(USER);
+        order.setUserEmail("cutover@example.com");
+        order.setPrice(menuItem.getPrice());
+        order.setAddress("1 Test Street");
+        order.setPaymentMethod("Card");
+        return order;
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> ids(JsonNode orders) {
+        List<Long> ids = new ArrayList<>();
+        orders.forEach(order -> ids.add(order.get("id").asLong()));
+        return ids;
+    }
+
+    private void assertContainsBoth(List<Long> ids) {
+        assertTrue(ids.containsAll(beforeSharding), "Orders from before sharding missing from " + ids);
+        assertTrue(ids.containsAll(afterSharding), "Orders from after sharding missing from " + ids);
+    }
+}
@@ -0,0 +1,181 @@
+package com.foodiehub.repository;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Fails the build when an indexed order lookup would scan its table. The schema
+ * comes from the Flyway migrations in db/migration, not from the entity
+ * mappings (which are validated against it, as in production), and the
+ * statement EXPLAINed is the SQL the repository finder itself issued, captured
+ * as Hibernate prepares it.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:foodiehub-plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        // Production's dialect, so validation expects the MySQL schema the migrations create
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(OrderQueryPlanTest.CapturingInspectorConfig.class)
+// Rows must be committed and analyzed before EXPLAIN, so the test itself runs outside a transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderQueryPlanTest {
+
+    private static final int ORDERS = 2000;
+
+    private static final String[] STATUSES = {"Pending", "Confirmed", "Preparing", "OutForDelivery", "Delivered", "Cancelled"};
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void populate() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO restaurants (id, name, price_range, rating, delivery_time, address) " +
+                "VALUES (1, 'Plan Test', 'Moderate', 4.0, '30-40', '1 Test Street')");
+        jdbcTemplate.update("INSERT INTO menu_items (id, name, description, price, restaurant_id) " +
+                "VALUES (1, 'Dish', 'Test dish', 10.0, 1), (2, 'Other dish', 'Test dish', 12.0, 1)");
+        List<Object[]> orders = new ArrayList<>(ORDERS);
+        List<Object[]> archived = new ArrayList<>(ORDERS);
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        for (int i = 1; i <= ORDERS; i++) {
+            Timestamp orderDate = Timestamp.valueOf(start.plusMinutes(i * 10L));
+            String user = "User " + (i % 200);
+            String email = "user" + (i % 200) + "@example.com";
+            orders.add(new Object[]{(long) (i % 2 + 1), user, email, STATUSES[i % STATUSES.length], orderDate});
+            archived.add(new Object[]{(long) i, (long) (i % 2 + 1), user, email, "Delivered", orderDate, orderDate});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (menu_item_id, user_name, user_email, price, address, status, " +
+                "order_date, payment_method) VALUES (?, ?, ?, 10.0, '1 Test Street', ?, ?, 'Card')", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO orders_archive (id, menu_item_id, user_name, user_email, price, address, " +
+                "status, order_date, payment_method, archived_at) VALUES (?, ?, ?, ?, 10.0, '1 Test Street', ?, ?, 'Card', ?)",
+                archived);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void ordersByUserEmailUseAnIndex() {
+        assertIndexed(() -> orderRepository.findByUserEmailOrderByOrderDateDesc("user1@example.com", Limit.of(20)),
+                "user1@example.com");
+    }
+
+    @Test
+    void ordersByUserNameUseAnIndex() {
+        assertIndexed(() -> orderRepository.findByUserNameOrderByOrderDateDesc("User 1", Limit.of(20)), "User 1");
+    }
+
+    @Test
+    void ordersByStatusUseAnIndex() {
+        assertIndexed(() -> orderRepository.findByStatusOrderByOrderDateAsc("Pending", Limit.of(20)), "Pending");
+    }
+
+    @Test
+    void ordersByMenuItemUseAnIndex() {
+        assertIndexed(() -> orderRepository.findByMenuItemIdOrderByOrderDateDesc(1L, Limit.of(20)), 1L);
+    }
+
+    @Test
+    void archivedOrdersByUserEmailUseAnIndex() {
+        assertIndexed(() -> archivedOrderRepository.findByUserEmailOrderByOrderDateDesc("user1@example.com", Limit.of(20)),
+                "user1@example.com");
+    }
+
+    @Test
+    void archivedOrdersByUserNameUseAnIndex() {
+        assertIndexed(() -> archivedOrderRepository.findByUserNameOrderByOrderDateDesc("User 1", Limit.of(20)), "User 1");
+    }
+
+    /**
+     * Runs the finder, takes the first statement it issued (the lookup itself;
+     * any later ones load associations) and EXPLAINs it with the finder's
+     * arguments bound. Placeholders beyond those are the row limit.
+     */
+    private void assertIndexed(Runnable finder, Object... args) {
+        CapturingStatementInspector.clear();
+        finder.run();
+        String sql = CapturingStatementInspector.first();
+        assertNotNull(sql, "The finder issued no SQL");
+
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        PreparedStatementSetter bind = ps -> {
+            for (int i = 0; i < placeholders; i++) {
+                ps.setObject(i + 1, i < args.length ? args[i] : 20);
+            }
+        };
+        ResultSetExtractor<String> firstColumn = rs -> rs.next() ? rs.getString(1) : null;
+        String plan = jdbcTemplate.query("EXPLAIN " + sql, bind, firstColumn);
+        assertNotNull(plan, "EXPLAIN returned no plan for " + sql);
+        assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"), "Full table scan: " + plan);
+    }
+
+    @TestConfiguration
+    static class CapturingInspectorConfig {
+
+        // Applied after the application's customizers so this inspector is the one installed
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer capturingStatementInspector() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CapturingStatementInspector());
+        }
+    }
+
+    static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String first() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.isEmpty() ? null : STATEMENTS.get(0);
+            }
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.foodiehub.service;
+
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RestaurantServiceTest {
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Autowired
+    private MenuItemTagIndex menuItemTagIndex;
+
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+
+    @Test
+    void deletingARestaurantDropsItsMenuFromTheIndexAndTheSnapshot() {
+        Restaurant restaurant = restaurantService.saveRestaurant(newRestaurant("Closing Down"));
+        MenuItem menuItem = menuItemService.saveMenuItem(newMenuItem(restaurant, "closing-down"));
+        String etag = menuSnapshotService.getSnapshot(restaurant.getId()).getEtag();
+        assertEquals(1, tagged("closing-down").size());
+
+        restaurantService.deleteRestaurant(restaurant.getId());
+
+        assertFalse(menuItemTagIndex.find(menuItem.getId()).isPresent());
+        assertTrue(tagged("closing-down").isEmpty());
+        MenuSnapshotService.MenuSnapshot snapshot = menuSnapshotService.getSnapshot(restaurant.getId());
+        assertNotEquals(etag, snapshot.getEtag());
+        assertEquals("[]", new String(snapshot.getJson(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void renamingARestaurantReindexesItsMenuItems() {
+        Restaurant restaurant = restaurantService.saveRestaurant(newRestaurant("Old Name"));
+        MenuItem menuItem = menuItemService.saveMenuItem(newMenuItem(restaurant, "renamed"));
+
+        // As the update endpoint does: the request body carries the id and the new fields
+        Restaurant renamed = newRestaurant("New Name");
+        renamed.setId(restaurant.getId());
+        restaurantService.saveRestaurant(renamed);
+
+        assertEquals("New Name", menuItemTagIndex.find(menuItem.getId()).orElseThrow().getRestaurant().getName());
+        List<MenuItem> tagged = tagged("renamed");
+        assertEquals(1, tagged.size());
+        assertEquals("New Name", tagged.get(0).getRestaurant().getName());
+    }
+
+    private List<MenuItem> tagged(String tag) {
+        return menuItemTagIndex.query(List.of(tag), null, null, null, 10);
+    }
+
+    private static Restaurant newRestaurant(String name) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setName(name);
+        restaurant.setCuisine(List.of("Indian"));
+        restaurant.setPriceRange("Moderate");
+        restaurant.setRating(4.0);
+        restaurant.setDeliveryTime("30-40");
+        restaurant.setAddress("1 Test Street");
+        return restaurant;
+    }
+
+    private static MenuItem newMenuItem(Restaurant restaurant, String tag) {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setName("Dish");
+        menuItem.setDescription("Test dish");
+        menuItem.setPrice(10.0);
+        menuItem.setTags(List.of(tag));
+        menuItem.setRestaurant(restaurant);
+        return menuItem;
+    }
+}
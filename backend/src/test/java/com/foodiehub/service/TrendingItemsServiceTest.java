@@ -0,0 +1,105 @@
+package com.foodiehub.service;
+
+import com.foodiehub.dto.TrendingItemDTO;
+import com.foodiehub.model.MenuItem;
+import com.foodiehub.model.Order;
+import com.foodiehub.model.Restaurant;
+import com.foodiehub.repository.MenuItemRepository;
+import com.foodiehub.repository.OrderRepository;
+import com.foodiehub.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TrendingItemsServiceTest {
+
+    @Autowired
+    private TrendingItemsService trendingItemsService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void warmUpCountsOrdersPlacedBeforeTheServiceStarted() {
+        MenuItem menuItem = newMenuItem("Warm Up Dish");
+        // Saved through the repository, so only the warm-up can have counted it
+        for (int i = 0; i < 2; i++) {
+            Order order = new Order();
+            order.setMenuItem(menuItem);
+            order.setUserName("Warm Up");
+            order.setUserEmail("warmup@example.com");
+            order.setPrice(menuItem.getPrice());
+            order.setAddress("1 Test Street");
+            order.setPaymentMethod("Card");
+            orderRepository.save(order);
+        }
+        assertFalse(trending(menuItem).isPresent());
+
+        trendingItemsService.warmUp();
+
+        TrendingItemDTO item = trending(menuItem).orElseThrow();
+        assertEquals(2, item.getOrderCount());
+        assertEquals("Warm Up Dish", item.getName());
+    }
+
+    @Test
+    void ordersCountOnlyOnceTheirTransactionCommits() {
+        MenuItem rolledBack = newMenuItem("Rolled Back Dish");
+        MenuItem committed = newMenuItem("Committed Dish");
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            trendingItemsService.recordOrder(rolledBack, 3);
+            tx.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(tx -> {
+            trendingItemsService.recordOrder(committed, 3);
+            assertFalse(trending(committed).isPresent(), "Counted before commit");
+        });
+
+        assertFalse(trending(rolledBack).isPresent());
+        assertTrue(trending(committed).isPresent());
+    }
+
+    private Optional<TrendingItemDTO> trending(MenuItem menuItem) {
+        List<TrendingItemDTO> top = trendingItemsService.getTopItems(64);
+        return top.stream().filter(item -> item.getMenuItemId().equals(menuItem.getId())).findFirst();
+    }
+
+    private MenuItem newMenuItem(String name) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setName("Trending " + name);
+        restaurant.setCuisine(List.of("Indian"));
+        restaurant.setPriceRange("Moderate");
+        restaurant.setRating(4.0);
+        restaurant.setDeliveryTime("30-40");
+        restaurant.setAddress("1 Test Street");
+        restaurant = restaurantRepository.save(restaurant);
+
+        MenuItem menuItem = new MenuItem();
+        menuItem.setName(name);
+        menuItem.setDescription("Test dish");
+        menuItem.setPrice(10.0);
+        menuItem.setRestaurant(restaurant);
+        return menuItemRepository.save(menuItem);
+    }
+}
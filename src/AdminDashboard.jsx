@@ -22,6 +22,9 @@ function AdminDashboard() {
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState(null);
   const [orders, setOrders] = useState([]);
+  const [restaurantsCursor, setRestaurantsCursor] = useState(null);
+  const [ordersCursor, setOrdersCursor] = useState(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
   const [showMenuManager, setShowMenuManager] = useState(false);
   const [selectedRestaurantId, setSelectedRestaurantId] = useState(null);
   
@@ -34,25 +37,28 @@ function AdminDashboard() {
     }
   }, [navigate]);
 
-  // Fetch restaurants from API
+  // Transform data to match our component's expected format if needed
+  const formatRestaurant = (restaurant) => ({
+    ...restaurant,
+    // Ensure all required properties exist
+    status: restaurant.isOpen ? 'active' : 'inactive',
+    deliveryTime: restaurant.deliveryTime || "30-40",
+    priceRange: getPriceRangeSymbol(restaurant.priceRange || "Moderate"),
+    distance: "1.0 km", // This might not be available from the API
+    image: restaurant.imageUrl // Maintain compatibility with existing code
+  });
+
+  // Fetch restaurants from API, one cursor page at a time
   useEffect(() => {
     const fetchRestaurants = async () => {
       try {
         setIsLoading(true);
         setError(null);
-        const response = await axios.get(`${API_URL}/restaurants`);
-        // Transform data to match our component's expected format if needed
-        const formattedRestaurants = response.data.map(restaurant => ({
-          ...restaurant,
-          // Ensure all required properties exist
-          status: restaurant.isOpen ? 'active' : 'inactive',
-          deliveryTime: restaurant.deliveryTime || "30-40",
-          priceRange: getPriceRangeSymbol(restaurant.priceRange || "Moderate"),
-          distance: "1.0 km", // This might not be available from the API
-          image: restaurant.imageUrl // Maintain compatibility with existing code
-        }));
+        const response = await axios.get(`${API_URL}/restaurants/page`);
+        const formattedRestaurants = response.data.items.map(formatRestaurant);
         setRestaurants(formattedRestaurants);
         setFilteredRestaurants(formattedRestaurants);
+        setRestaurantsCursor(response.data.nextCursor);
       } catch (err) {
         console.error("Error fetching restaurants:", err);
         setError("Failed to load restaurants. Please try again later.");
@@ -65,6 +71,20 @@ function AdminDashboard() {
     fetchRestaurants();
   }, []);
 
+  const loadMoreRestaurants = async () => {
+    try {
+      setIsLoadingMore(true);
+      const response = await axios.get(`${API_URL}/restaurants/page`, { params: { cursor: restaurantsCursor } });
+      setRestaurants(prev => [...prev, ...response.data.items.map(formatRestaurant)]);
+      setRestaurantsCursor(response.data.nextCursor);
+    } catch (err) {
+      console.error("Error fetching restaurants:", err);
+      toast.error("Failed to load more restaurants. Please try again later.");
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   // Helper function to convert price range to symbols
   const getPriceRangeSymbol = (priceRange) => {
     switch(priceRange.toLowerCase()) {
@@ -114,8 +134,9 @@ function AdminDashboard() {
     if (activeTab === 'orders') {
       const fetchOrders = async () => {
         try {
-          const response = await axios.get(`${API_URL}/orders`);
-          setOrders(response.data);
+          const response = await axios.get(`${API_URL}/orders/page`);
+          setOrders(response.data.items);
+          setOrdersCursor(response.data.nextCursor);
         } catch (err) {
           console.error("Error fetching orders:", err);
           toast.error("Failed to load orders. Please try again later.");
@@ -125,6 +146,20 @@ function AdminDashboard() {
       fetchOrders();
     }
   }, [activeTab]);
+
+  const loadMoreOrders = async () => {
+    try {
+      setIsLoadingMore(true);
+      const response = await axios.get(`${API_URL}/orders/page`, { params: { cursor: ordersCursor } });
+      setOrders(prev => [...prev, ...response.data.items]);
+      setOrdersCursor(response.data.nextCursor);
+    } catch (err) {
+      console.error("Error fetching orders:", err);
+      toast.error("Failed to load more orders. Please try again later.");
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
   
   const handleEditRestaurant = (restaurant) => {
     setCurrentRestaurant(restaurant);
@@ -466,6 +501,17 @@ function AdminDashboard() {
                     ))}
                   </tbody>
                 </table>
+                {restaurantsCursor && (
+                  <div className="p-4 text-center border-t border-gray-200">
+                    <button
+                      onClick={loadMoreRestaurants}
+                      disabled={isLoadingMore}
+                      className="bg-orange-500 hover:bg-orange-600 disabled:opacity-50 text-white py-2 px-4 rounded-lg"
+                    >
+                      {isLoadingMore ? 'Loading...' : 'Load more restaurants'}
+                    </button>
+                  </div>
+                )}
               </div>
             ) : !isLoading && !error ? (
               <div className="bg-white p-6 rounded-lg shadow text-center">
@@ -526,6 +572,17 @@ function AdminDashboard() {
                     ))}
                   </tbody>
                 </table>
+                {ordersCursor && (
+                  <div className="p-4 text-center border-t border-gray-200">
+                    <button
+                      onClick={loadMoreOrders}
+                      disabled={isLoadingMore}
+                      className="bg-orange-500 hover:bg-orange-600 disabled:opacity-50 text-white py-2 px-4 rounded-lg"
+                    >
+                      {isLoadingMore ? 'Loading...' : 'Load more orders'}
+                    </button>
+                  </div>
+                )}
               </div>
             ) : (
               <div className="bg-white p-6 rounded-lg shadow text-center">
@@ -498,7 +498,7 @@ const HeroSection = () => {
     // Using our backend API to get restaurants instead of OpenStreetMap
     const API_URL = 'http://localhost:8080/api';
     
-    axios.get(`${API_URL}/restaurants`)
+    axios.get(`${API_URL}/restaurants/cards`)
       .then(response => {
         if (response.data && response.data.length > 0) {
           // Format results to match our structure
@@ -983,6 +983,58 @@ const CategoriesSection = () => {
     );
 };
 
+// Shown when the trending endpoint fails or has nothing yet (e.g. just after a restart)
+const FALLBACK_TRENDING = [
+  {
+    id: 1,
+    image: "/food.jpg",
+    title: "Spicy Ramen Bowl",
+    restaurant: "Noodle House",
+    restaurantId: 1,
+    rating: 4.8,
+    reviews: 234,
+    price: "₹200",
+    time: "20-30 min",
+    tags: ["Japanese", "Spicy", "Popular"]
+  },
+  {
+    id: 2,  
+    image: "/food.jpg",
+    title: "Mediterranean Pasta",
+    restaurant: "Bella Italia",
+    restaurantId: 2,
+    rating: 4.6,
+    reviews: 189,
+    price: "₹250",
+    time: "25-35 min",
+    tags: ["Italian", "Vegetarian"]
+  },
+  {
+    id: 3,
+    image: "/food.jpg",
+    title: "Fresh Garden Bowl",
+    restaurant: "Green Eats",
+    restaurantId: 3,
+    rating: 4.9,
+    reviews: 156,
+    price: "₹300",
+    time: "15-25 min",
+    tags: ["Healthy", "Vegan"]
+  },
+  {
+    id: 4,
+    image: "/food.jpg",
+    title: "Spicy Thai Curry",
+    restaurant: "Thai Flavors",
+    restaurantId: 4,
+    rating: 4.7,
+    reviews: 203,
+    price: "₹300",
+    time: "30-40 min",
+    tags: ["Thai", "Spicy"]
+  }
+];
+
 const FoodGrid = () => {
     const [trendingItems, setTrendingItems] = useState([]);
     const [loading, setLoading] = useState(true);
@@ -995,91 +1047,28 @@ const FoodGrid = () => {
         const API_URL = 'http://localhost:8080/api';
 
         try {
-          // Fetch all menu items
-          const response = await axios.get(`${API_URL}/menu-items`);
-          
-          // Get a list of restaurants to add restaurant names to menu items
-          const restaurantsResponse = await axios.get(`${API_URL}/restaurants`);
-          const restaurants = restaurantsResponse.data;
-          
-          // Transform and add restaurant information to menu items
-          const menuItemsWithRestaurant = response.data.map(item => {
-            const restaurant = restaurants.find(r => r.id === item.restaurant);
-            return {
-              id: item.id,
-              title: item.name,
-              description: item.description,
-              price: `₹${item.price}`,
-              image: item.imageUrl || "/food.jpg",
-              restaurant: restaurant ? restaurant.name : "Restaurant",
-              restaurantId: item.restaurant,
-              rating: (4 + Math.random()).toFixed(1), // Generate a random high rating between 4.0-5.0
-              reviews: Math.floor(Math.random() * 300) + 50, // Random number of reviews
-              time: `${Math.floor(Math.random() * 15) + 15}-${Math.floor(Math.random() * 15) + 30} min`, // Random delivery time
-              tags: item.tags || ["Popular"], // Use actual tags or default to "Popular"
-              isVeg: item.isVeg
-            };
-          });
+          // Top items by recent orders, with restaurant names already joined server-side
+          const response = await axios.get(`${API_URL}/menu-items/trending`, { params: { k: 8 } });
           
-          // Sort by "rating" and take top 8 items to show as trending
-          const sortedItems = menuItemsWithRestaurant
-            .sort((a, b) => b.rating - a.rating)
-            .slice(0, 8);
+          const trending = response.data.map(item => ({
+            id: item.menuItemId,
+            title: item.name,
+            price: `₹${item.price}`,
+            image: item.imageUrl || "/food.jpg",
+            restaurant: item.restaurantName || "Restaurant",
+            restaurantId: item.restaurantId,
+            rating: (4 + Math.random()).toFixed(1), // Generate a random high rating between 4.0-5.0
+            orders: item.orderCount, // Recent orders, not reviews
+            time: `${Math.floor(Math.random() * 15) + 15}-${Math.floor(Math.random() * 15) + 30} min`, // Random delivery time
+            tags: ["Popular"],
+            isVeg: item.isVeg
+          }));
           
-          setTrendingItems(sortedItems);
+          setTrendingItems(trending.length > 0 ? trending : FALLBACK_TRENDING);
         } catch (error) {
           console.error("Error fetching trending items:", error);
           // Fallback to static data if API fails
-          setTrendingItems([
-            {
-              id: 1,
-              image: "/food.jpg",
-              title: "Spicy Ramen Bowl",
-              restaurant: "Noodle House",
-              restaurantId: 1,
-              rating: 4.8,
-              reviews: 234,
-              price: "₹200",
-              time: "20-30 min",
-              tags: ["Japanese", "Spicy", "Popular"]
-            },
-            {
-              id: 2,  
-              image: "/food.jpg",
-              title: "Mediterranean Pasta",
-              restaurant: "Bella Italia",
-              restaurantId: 2,
-              rating: 4.6,
-              reviews: 189,
-              price: "₹250",
-              time: "25-35 min",
-              tags: ["Italian", "Vegetarian"]
-            },
-            {
-              id: 3,
-              image: "/food.jpg",
-              title: "Fresh Garden Bowl",
-              restaurant: "Green Eats",
-              restaurantId: 3,
-              rating: 4.9,
-              reviews: 156,
-              price: "₹300",
-              time: "15-25 min",
-              tags: ["Healthy", "Vegan"]
-            },
-            {
-              id: 4,
-              image: "/food.jpg",
-              title: "Spicy Thai Curry",
-              restaurant: "Thai Flavors",
-              restaurantId: 4,
-              rating: 4.7,
-              reviews: 203,
-              price: "₹300",
-              time: "30-40 min",
-              tags: ["Thai", "Spicy"]
-            }
-          ]);
+          setTrendingItems(FALLBACK_TRENDING);
         } finally {
           setLoading(false);
         }
@@ -1182,7 +1171,10 @@ const FoodGrid = () => {
                       </div>
                       
                       <div className="flex items-center justify-between mt-4">
-                        <div className="text-gray-600 text-sm">{food.time}</div>
+                        <div className="text-gray-600 text-sm">
+                          {food.time}
+                          {food.orders > 0 && <span> · {food.orders} recent orders</span>}
+                        </div>
                         <div className="text-lg font-semibold text-orange-600">{food.price}</div>
                       </div>
                     </div>
@@ -1355,7 +1347,7 @@ const RestaurantsPage = () => {
       const API_URL = 'http://localhost:8080/api';
 
       try {
-        const response = await axios.get(`${API_URL}/restaurants`);
+        const response = await axios.get(`${API_URL}/restaurants/cards`);
         
         // Transform API response to match our component's expected format
         const transformedRestaurants = response.data.map(restaurant => {
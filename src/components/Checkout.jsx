@@ -145,24 +145,18 @@ const Checkout = () => {
     setIsProcessing(true);
     
     try {
-      // Create orders for each cart item
-      // Note: In a real app, you might want to create a single order with multiple items
-      const orderPromises = cartItems.map(item => {
-        const orderData = {
-          menuItem: { id: item.id },
-          userName: userDetails.name,
-          userEmail: userDetails.email,
-          price: item.price * item.quantity,
-          address: userDetails.address,
-          phoneNumber: userDetails.phone,
-          paymentMethod: paymentMethod,
-          deliveryNotes: `${item.quantity} x ${item.name}`
-        };
-        
-        return axios.post(`${API_URL}/orders`, orderData);
-      });
+      // Place the whole cart as a single order
+      const orderData = {
+        userName: userDetails.name,
+        userEmail: userDetails.email,
+        address: userDetails.address,
+        phoneNumber: userDetails.phone,
+        paymentMethod: paymentMethod,
+        deliveryNotes: cartItems.map(item => `${item.quantity} x ${item.name}`).join(', '),
+        items: cartItems.map(item => ({ menuItemId: item.id, quantity: item.quantity }))
+      };
       
-      await Promise.all(orderPromises);
+      await axios.post(`${API_URL}/orders/cart`, orderData);
       
       // Clear cart, totals, and coupon
       localStorage.removeItem('cart');
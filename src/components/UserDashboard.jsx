@@ -146,7 +146,27 @@ const UserDashboard = () => {
         });
     }
   }, [activeTab, userName]);
-  
+
+  // Receive status changes as they happen instead of re-fetching the order list
+  useEffect(() => {
+    if (!userName) {
+      return undefined;
+    }
+    const source = new EventSource(`${API_URL}/orders/user/${encodeURIComponent(userName)}/events`);
+    source.addEventListener('order-status', (event) => {
+      const change = JSON.parse(event.data);
+      setOrders(prevOrders => {
+        if (!prevOrders.some(order => order.id === change.orderId)) {
+          return prevOrders;
+        }
+        return prevOrders.map(order => order.id === change.orderId
+          ? { ...order, status: change.status, paymentStatus: change.paymentStatus }
+          : order);
+      });
+    });
+    return () => source.close();
+  }, [userName]);
+
   // Process order data for analytics
   const processAnalyticsData = (orderData) => {
     if (!orderData || orderData.length === 0) {